@@ -0,0 +1,525 @@
+package com.example.studentapp.loadtest;
+
+import com.example.studentapp.config.DatabaseConfig;
+import com.example.studentapp.controller.StudentController;
+import com.example.studentapp.database.DatabaseConnection;
+import com.example.studentapp.database.DatabaseExecutors;
+import com.example.studentapp.model.Student;
+import com.example.studentapp.model.StudentQuery;
+import com.example.studentapp.model.StudentSummary;
+import com.example.studentapp.model.UserRole;
+import com.example.studentapp.service.ApplicationStartup;
+import com.example.studentapp.service.InMemoryStudentRepository;
+import com.example.studentapp.service.StudentBulkImporter;
+import com.google.gson.GsonBuilder;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Headless load generator driving StudentController against a scratch MySQL database
+ * Two workload models are supported:
+ *   open   - requests arrive at a fixed average rate (Poisson inter-arrival times)
+ *            regardless of how fast the application answers, as real users do;
+ *            arrivals beyond --max-in-flight are dropped and counted
+ *   closed - a fixed number of virtual users each run one operation, think, repeat
+ * Latency is measured from the intended arrival time, so a stalled dispatcher shows up
+ * in the percentiles instead of silently lowering the offered load.
+ *
+ * Point database.properties at a throwaway database: the run seeds students with
+ * emails under @loadtest.local and writes to them. With --store=memory the run uses a
+ * fresh in-memory store instead and needs no database at all.
+ *
+ * Usage:
+ *   java -cp target/benchmarks.jar com.example.studentapp.loadtest.LoadGenerator \
+ *        --model=open --rate=300 --duration=60 --students=5000 \
+ *        --mix=authenticate:70,list:10,get:10,add:4,update:4,delete:2 --report=load.json
+ */
+public class LoadGenerator {
+    static final String EMAIL_DOMAIN = "loadtest.local";
+    static final String PASSWORD = "LoadTest#2024";
+    private static final String DEFAULT_MIX = "authenticate:70,list:10,get:10,add:4,update:4,delete:2";
+
+    private final Map<String, String> options;
+    private final StudentController controller;
+    private final LoadStats stats;
+    private final List<StudentSummary> seeded = new ArrayList<>();
+    private final ConcurrentLinkedQueue<String> added = new ConcurrentLinkedQueue<>();
+    private final AtomicLong addSequence = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private String[] branches;
+    private String[] semesters;
+
+    private String[] mixNames;
+    private int[] mixCumulative;
+
+    public LoadGenerator(Map<String, String> options, StudentController controller, LoadStats stats) {
+        this.options = options;
+        this.controller = controller;
+        this.stats = stats;
+        parseMix(option("mix", DEFAULT_MIX));
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        if (options.containsKey("help")) {
+            printUsage();
+            return;
+        }
+
+        boolean inMemory = "memory".equalsIgnoreCase(
+                options.getOrDefault("store", DatabaseConfig.isInMemoryStore() ? "memory" : "mysql"));
+        StudentController controller;
+        if (inMemory) {
+            // Volatile store: nothing to clean up afterwards and no pool to sample
+            System.out.println("✅ Using a fresh in-memory store");
+            controller = new StudentController(new InMemoryStudentRepository(null, 0));
+        } else {
+            System.out.println("✅ Starting application services...");
+            ApplicationStartup.begin().join();
+            controller = new StudentController();
+        }
+        LoadGenerator generator = new LoadGenerator(options, controller, new LoadStats(!inMemory));
+
+        try {
+            generator.seed();
+            if (!generator.flag("seed-only")) {
+                generator.run();
+            }
+        } finally {
+            if (!inMemory) {
+                generator.cleanUp();
+                DatabaseConnection.closeDataSource();
+            }
+            DatabaseExecutors.shutdown();
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Makes sure --students load-test accounts exist, importing only the missing ones
+     */
+    void seed() throws Exception {
+        loadReferenceValues();
+        int target = intOption("students", 5000);
+        loadSeeded();
+        if (seeded.size() >= target) {
+            System.out.println("✅ Reusing " + seeded.size() + " seeded students");
+            return;
+        }
+
+        int missing = target - seeded.size();
+        System.out.println("✅ Seeding " + missing + " students (passwords are hashed, this takes a while)...");
+        Path csv = Files.createTempFile("loadtest-students", ".csv");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+                writer.write("name,email,password,branch,semester,hostel,phone\n");
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = seeded.size(); i < target; i++) {
+                    writer.write(String.format("Load Student %05d,student%05d@%s,%s,%s,%s,%b,%s%n",
+                            i, i, EMAIL_DOMAIN, PASSWORD,
+                            branches[random.nextInt(branches.length)], semesters[random.nextInt(semesters.length)],
+                            random.nextBoolean(), randomPhone()));
+                }
+            }
+            StudentBulkImporter.ImportResult result = controller.importStudents(List.of(csv.toFile()), null).get();
+            System.out.println("✅ Seeded " + result.getImportedRows() + " students in " + result.getElapsedMillis()
+                    + " ms (" + result.getErrors().size() + " rejected rows)");
+        } finally {
+            Files.deleteIfExists(csv);
+        }
+        loadSeeded();
+    }
+
+    /**
+     * Branch and semester names from the store; imports reject any other value
+     */
+    private void loadReferenceValues() throws Exception {
+        branches = controller.getBranches().get().toArray(new String[0]);
+        semesters = controller.getSemesters().get().toArray(new String[0]);
+        if (branches.length == 0 || semesters.length == 0) {
+            throw new IllegalStateException("The branches and semesters reference tables must not be empty");
+        }
+    }
+
+    private void loadSeeded() throws Exception {
+        seeded.clear();
+        StudentQuery query = new StudentQuery();
+        query.setEmailDomain(EMAIL_DOMAIN);
+        query.setLimit(1000);
+        List<StudentSummary> page = controller.searchStudents(query).get();
+        while (!page.isEmpty()) {
+            for (StudentSummary student : page) {
+                // Rows added by earlier runs are not valid login accounts
+                if (student.getEmail().startsWith("student")) {
+                    seeded.add(student);
+                }
+            }
+            StudentSummary last = page.get(page.size() - 1);
+            page = page.size() < query.getLimit() ? List.of()
+                    : controller.searchStudents(query.after(last.getName(), last.getStudentId())).get();
+        }
+    }
+
+    /**
+     * Runs warm-up then the measured window with the configured workload model
+     */
+    void run() throws InterruptedException {
+        if (seeded.isEmpty()) {
+            throw new IllegalStateException("No seeded students to drive load against");
+        }
+        int warmup = intOption("warmup", 10);
+        int duration = intOption("duration", 60);
+        String model = option("model", "open");
+
+        System.out.println("✅ " + model + " model, mix " + option("mix", DEFAULT_MIX) + ", warm-up " + warmup
+                + " s, measuring " + duration + " s");
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmup);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(duration);
+
+        Thread reporter = startProgressReporter(warmupEnd);
+        if ("closed".equalsIgnoreCase(model)) {
+            runClosed(warmupEnd, end);
+        } else if ("open".equalsIgnoreCase(model)) {
+            runOpen(warmupEnd, end);
+        } else {
+            throw new IllegalArgumentException("Unknown model: " + model + " (expected open or closed)");
+        }
+        reporter.interrupt();
+
+        System.out.println();
+        System.out.print(stats.format());
+        writeReport();
+    }
+
+    /**
+     * Open model: Poisson arrivals at --rate per second, in flight capped at --max-in-flight
+     */
+    private void runOpen(long warmupEnd, long end) throws InterruptedException {
+        double rate = doubleOption("rate", 200);
+        int maxInFlight = intOption("max-in-flight", 2000);
+        Semaphore permits = new Semaphore(maxInFlight);
+        boolean measuring = false;
+
+        long next = System.nanoTime();
+        while (next < end) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!measuring && next >= warmupEnd) {
+                stats.start();
+                measuring = true;
+            }
+
+            long intendedStart = next;
+            next += (long) (-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) / rate * 1e9);
+
+            if (!permits.tryAcquire()) {
+                stats.recordDropped();
+                continue;
+            }
+            stats.enter();
+            dispatch(pickOperation(), intendedStart).whenComplete((ignored, error) -> {
+                stats.exit();
+                permits.release();
+            });
+        }
+        stats.stop();
+
+        // Let in-flight work finish before cleaning up
+        permits.tryAcquire(maxInFlight, 30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Closed model: --users virtual users with exponential think time (--think-ms mean)
+     */
+    private void runClosed(long warmupEnd, long end) throws InterruptedException {
+        int users = intOption("users", 200);
+        double thinkMillis = doubleOption("think-ms", 1000);
+        CountDownLatch done = new CountDownLatch(users);
+
+        Thread starter = new Thread(() -> {
+            LockSupport.parkNanos(warmupEnd - System.nanoTime());
+            stats.start();
+        }, "loadtest-window");
+        starter.setDaemon(true);
+        starter.start();
+
+        for (int i = 0; i < users; i++) {
+            Thread user = new Thread(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    // Stagger the first request so users do not start in lock step
+                    LockSupport.parkNanos((long) (random.nextDouble() * thinkMillis * 1_000_000));
+                    while (System.nanoTime() < end) {
+                        stats.enter();
+                        try {
+                            dispatch(pickOperation(), System.nanoTime()).handle((result, error) -> null).join();
+                        } finally {
+                            stats.exit();
+                        }
+                        long think = (long) (-Math.log(1.0 - random.nextDouble()) * thinkMillis * 1_000_000);
+                        LockSupport.parkNanos(Math.min(think, end - System.nanoTime()));
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "loadtest-user-" + i);
+            user.setDaemon(true);
+            user.start();
+        }
+
+        LockSupport.parkNanos(end - System.nanoTime());
+        stats.stop();
+        done.await(30, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Starts one operation; synchronous failures (e.g. executor rejection) become failed futures
+     */
+    private CompletableFuture<?> dispatch(String operation, long intendedStart) {
+        if ("delete".equals(operation) && added.isEmpty()) {
+            // Nothing added yet to delete: add instead so the mix stays write-heavy
+            operation = "add";
+        }
+        String name = operation;
+        CompletableFuture<?> future;
+        try {
+            future = start(name);
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((result, error) ->
+                stats.record(name, intendedStart, error == null ? null : unwrap(error)));
+    }
+
+    private CompletableFuture<?> start(String operation) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StudentSummary target = seeded.get(random.nextInt(seeded.size()));
+
+        switch (operation) {
+            case "authenticate":
+                return controller.authenticateStudent(target.getEmail(), PASSWORD).thenApply(student -> {
+                    if (student == null) {
+                        throw new IllegalStateException("Login rejected for " + target.getEmail());
+                    }
+                    return student;
+                });
+            case "list": {
+                StudentQuery query = new StudentQuery();
+                query.setLimit(100);
+                if (random.nextBoolean()) {
+                    query.setBranch(branches[random.nextInt(branches.length)]);
+                }
+                return controller.searchStudents(query);
+            }
+            case "get":
+                return controller.getStudentById(target.getStudentId());
+            case "add": {
+                Student student = new Student(null, "Load Added " + runId, "added-" + runId + "-"
+                        + addSequence.incrementAndGet() + "@" + EMAIL_DOMAIN, PASSWORD,
+                        branches[random.nextInt(branches.length)], semesters[random.nextInt(semesters.length)],
+                        random.nextBoolean(), randomPhone(), UserRole.STUDENT);
+                return controller.addStudent(student).thenApply(id -> {
+                    added.add(id);
+                    return id;
+                });
+            }
+            case "update": {
+                // Blank password keeps the stored hash
+                Student student = new Student(target.getStudentId(), target.getName(), target.getEmail(), null,
+                        target.getBranch(), target.getSemester(), target.isHostel(), randomPhone(), target.getRole());
+                return controller.updateStudent(student);
+            }
+            case "delete": {
+                String studentId = added.poll();
+                if (studentId == null) {
+                    throw new IllegalStateException("Another user deleted the last added student first");
+                }
+                return controller.deleteStudent(studentId);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + operation);
+        }
+    }
+
+    /**
+     * Removes rows added by this run; with --cleanup also the seeded students
+     * Deletes go through tombstones so running dashboards pick them up on delta refresh.
+     */
+    void cleanUp() {
+        String pattern = flag("cleanup") ? "%@" + EMAIL_DOMAIN : "added-%@" + EMAIL_DOMAIN;
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement tombstones = conn.prepareStatement("""
+                    INSERT INTO student_tombstones (student_id)
+                    SELECT student_id FROM students WHERE email LIKE ?
+                    ON DUPLICATE KEY UPDATE deleted_at = CURRENT_TIMESTAMP
+                 """);
+                 PreparedStatement delete = conn.prepareStatement("DELETE FROM students WHERE email LIKE ?")) {
+                tombstones.setString(1, pattern);
+                tombstones.executeUpdate();
+                delete.setString(1, pattern);
+                int removed = delete.executeUpdate();
+                conn.commit();
+                System.out.println("✅ Removed " + removed + " load-test students");
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            System.err.println("❌ Failed to remove load-test students: " + e.getMessage());
+        }
+    }
+
+    private Thread startProgressReporter(long warmupEnd) {
+        Thread reporter = new Thread(() -> {
+            try {
+                while (true) {
+                    TimeUnit.SECONDS.sleep(5);
+                    String phase = System.nanoTime() < warmupEnd ? "warm-up" : "measuring";
+                    System.out.println("ℹ️ " + phase + ": " + stats.completed() + " operations recorded");
+                }
+            } catch (InterruptedException ignored) {
+                // Run finished
+            }
+        }, "loadtest-progress");
+        reporter.setDaemon(true);
+        reporter.start();
+        return reporter;
+    }
+
+    private void writeReport() {
+        String path = options.get("report");
+        if (path == null) {
+            return;
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", options);
+        report.putAll(stats.toMap());
+        try (Writer writer = Files.newBufferedWriter(new File(path).toPath(), StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(report, writer);
+            System.out.println("✅ Report written to " + path);
+        } catch (IOException e) {
+            System.err.println("❌ Failed to write report: " + e.getMessage());
+        }
+    }
+
+    private String pickOperation() {
+        int roll = ThreadLocalRandom.current().nextInt(mixCumulative[mixCumulative.length - 1]);
+        for (int i = 0; i < mixCumulative.length; i++) {
+            if (roll < mixCumulative[i]) {
+                return mixNames[i];
+            }
+        }
+        return mixNames[mixNames.length - 1];
+    }
+
+    /**
+     * Parses "operation:weight,..." into cumulative weights
+     */
+    private void parseMix(String mix) {
+        String[] entries = mix.split(",");
+        mixNames = new String[entries.length];
+        mixCumulative = new int[entries.length];
+        int total = 0;
+        for (int i = 0; i < entries.length; i++) {
+            String[] parts = entries[i].trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entries[i]);
+            }
+            mixNames[i] = parts[0].trim();
+            total += Integer.parseInt(parts[1].trim());
+            mixCumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Mix weights must add up to more than zero");
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    private static String randomPhone() {
+        return "9" + String.format("%09d", ThreadLocalRandom.current().nextInt(1_000_000_000));
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private int intOption(String name, int defaultValue) {
+        return Integer.parseInt(option(name, String.valueOf(defaultValue)));
+    }
+
+    private double doubleOption(String name, double defaultValue) {
+        return Double.parseDouble(option(name, String.valueOf(defaultValue)));
+    }
+
+    private boolean flag(String name) {
+        return Boolean.parseBoolean(option(name, "false"));
+    }
+
+    /**
+     * Parses --name=value arguments; a bare --name means true (the dashes are optional)
+     */
+    static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int equals = option.indexOf('=');
+            if (equals < 0) {
+                options.put(option, "true");
+            } else {
+                options.put(option.substring(0, equals), option.substring(equals + 1));
+            }
+        }
+        return options;
+    }
+
+    private static void printUsage() {
+        System.out.println("Options (defaults in brackets):\n"
+                + "  --store=mysql|memory  MySQL from database.properties, or a fresh in-memory store [store.mode]\n"
+                + "  --model=open|closed   workload model [open]\n"
+                + "  --rate=N              open model: arrivals per second [200]\n"
+                + "  --max-in-flight=N     open model: outstanding requests before arrivals are dropped [2000]\n"
+                + "  --users=N             closed model: virtual users [200]\n"
+                + "  --think-ms=N          closed model: mean think time between requests [1000]\n"
+                + "  --students=N          seeded login accounts [5000]\n"
+                + "  --mix=op:w,...        weights for authenticate, list, get, add, update, delete\n"
+                + "                        [" + DEFAULT_MIX + "]\n"
+                + "  --warmup=S            seconds before measuring [10]\n"
+                + "  --duration=S          measured seconds [60]\n"
+                + "  --report=FILE         also write the results as JSON\n"
+                + "  --seed-only           seed students and exit\n"
+                + "  --cleanup             also delete the seeded students at the end");
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.studentapp.loadtest;
+
+import com.example.studentapp.database.DatabaseExecutors;
+import com.example.studentapp.database.LatencyHistogram;
+import com.example.studentapp.database.MetricsRegistry;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Results of one load run: per-operation latency and errors, dropped arrivals and
+ * Hikari pool saturation sampled every 100 ms
+ */
+public class LoadStats {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] QUANTILE_NAMES = {"p50", "p90", "p99", "p999"};
+    private static final long SAMPLE_MILLIS = 100;
+
+    private final Map<String, LatencyHistogram> operations = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong maxInFlight = new AtomicLong();
+
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "loadtest-pool-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final boolean samplePool;
+    private long poolSamples, saturatedSamples, maxActive, maxTotal, maxPending, pendingSum;
+
+    private volatile boolean measuring;
+    private long startNanos, endNanos;
+    private long acquireTimeoutsAtStart;
+    private long rejectedAtStart;
+
+    /**
+     * @param samplePool false when no connection pool is in use (in-memory store)
+     */
+    public LoadStats(boolean samplePool) {
+        this.samplePool = samplePool;
+    }
+
+    /**
+     * Starts the measurement window and the pool sampler
+     */
+    public void start() {
+        acquireTimeoutsAtStart = MetricsRegistry.getConnectionTimeouts();
+        rejectedAtStart = totalRejected();
+        startNanos = System.nanoTime();
+        measuring = true;
+        if (samplePool) {
+            sampler.scheduleAtFixedRate(this::samplePoolState, 0, SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Ends the measurement window; operations still in flight are not counted
+     */
+    public void stop() {
+        measuring = false;
+        endNanos = System.nanoTime();
+        sampler.shutdownNow();
+    }
+
+    /**
+     * Records a completed operation; latency runs from its intended start
+     * Completions outside the measurement window (warm-up, drain) are ignored.
+     */
+    public void record(String operation, long intendedStartNanos, Throwable error) {
+        if (!measuring) {
+            return;
+        }
+        operations.computeIfAbsent(operation, k -> new LatencyHistogram())
+                .record(System.nanoTime() - intendedStartNanos, error != null);
+        if (error != null) {
+            errors.computeIfAbsent(operation + ": " + error.getClass().getSimpleName(), k -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * Counts an arrival that was not sent because the in-flight limit was reached
+     */
+    public void recordDropped() {
+        if (!measuring) {
+            return;
+        }
+        dropped.increment();
+    }
+
+    public void enter() {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    }
+
+    public void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void samplePoolState() {
+        HikariPoolMXBean pool = MetricsRegistry.poolStats();
+        if (pool == null) {
+            return;
+        }
+        int active = pool.getActiveConnections();
+        int total = pool.getTotalConnections();
+        int pending = pool.getThreadsAwaitingConnection();
+        poolSamples++;
+        pendingSum += pending;
+        maxActive = Math.max(maxActive, active);
+        maxTotal = Math.max(maxTotal, total);
+        maxPending = Math.max(maxPending, pending);
+        if (pending > 0) {
+            saturatedSamples++;
+        }
+    }
+
+    private static long totalRejected() {
+        long rejected = 0;
+        for (DatabaseExecutors.BoundedExecutor executor : DatabaseExecutors.all()) {
+            rejected += executor.getRejected();
+        }
+        return rejected;
+    }
+
+    private double elapsedSeconds() {
+        return (endNanos - startNanos) / 1e9;
+    }
+
+    /**
+     * Human-readable report for the console
+     */
+    public synchronized String format() {
+        double seconds = elapsedSeconds();
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-14s %9s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "ops/s", "err%", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+        long totalCount = 0, totalErrors = 0;
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : snapshots().entrySet()) {
+            LatencyHistogram.Snapshot s = entry.getValue();
+            totalCount += s.getCount();
+            totalErrors += s.getErrors();
+            out.append(String.format("%-14s %9d %9.1f %6.2f%% %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), s.getCount(), s.getCount() / seconds, percent(s.getErrors(), s.getCount()),
+                    s.getQuantileMillis(0.5), s.getQuantileMillis(0.9), s.getQuantileMillis(0.99),
+                    s.getQuantileMillis(0.999), s.getMaxMillis()));
+        }
+        out.append(String.format("%-14s %9d %9.1f %6.2f%%%n", "total", totalCount, totalCount / seconds,
+                percent(totalErrors, totalCount)));
+        out.append(String.format("Dropped arrivals: %d, max in flight: %d%n", dropped.sum(), maxInFlight.get()));
+
+        if (!errors.isEmpty()) {
+            out.append("Errors:\n");
+            errors.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(e -> out.append("  ").append(e.getKey()).append(" x").append(e.getValue().sum()).append('\n'));
+        }
+
+        if (samplePool) {
+            out.append(String.format("Pool: max active %d/%d, max pending %d, avg pending %.1f, saturated %.1f%% of samples%n",
+                    maxActive, maxTotal, maxPending, poolSamples == 0 ? 0 : (double) pendingSum / poolSamples,
+                    percent(saturatedSamples, poolSamples)));
+            LatencyHistogram.Snapshot acquire = MetricsRegistry.connectionAcquireSnapshot();
+            out.append(String.format("Connection acquire: p99 %.2f ms, max %.2f ms (whole process), timeouts %d%n",
+                    acquire.getQuantileMillis(0.99), acquire.getMaxMillis(),
+                    MetricsRegistry.getConnectionTimeouts() - acquireTimeoutsAtStart));
+        }
+        out.append(String.format("Executor rejections: %d%n", totalRejected() - rejectedAtStart));
+        return out.toString();
+    }
+
+    /**
+     * Report as a tree of maps, for JSON output
+     */
+    public synchronized Map<String, Object> toMap() {
+        double seconds = elapsedSeconds();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("durationSeconds", seconds);
+
+        Map<String, Object> ops = new LinkedHashMap<>();
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : snapshots().entrySet()) {
+            LatencyHistogram.Snapshot s = entry.getValue();
+            Map<String, Object> op = new LinkedHashMap<>();
+            op.put("count", s.getCount());
+            op.put("errors", s.getErrors());
+            op.put("throughputPerSecond", s.getCount() / seconds);
+            op.put("meanMillis", s.getMeanMillis());
+            for (int i = 0; i < QUANTILES.length; i++) {
+                op.put(QUANTILE_NAMES[i] + "Millis", s.getQuantileMillis(QUANTILES[i]));
+            }
+            op.put("maxMillis", s.getMaxMillis());
+            ops.put(entry.getKey(), op);
+        }
+        report.put("operations", ops);
+
+        Map<String, Long> errorCounts = new LinkedHashMap<>();
+        errors.forEach((key, count) -> errorCounts.put(key, count.sum()));
+        report.put("errors", errorCounts);
+        report.put("droppedArrivals", dropped.sum());
+        report.put("maxInFlight", maxInFlight.get());
+
+        if (samplePool) {
+            Map<String, Object> pool = new LinkedHashMap<>();
+            pool.put("maxActive", maxActive);
+            pool.put("maxTotal", maxTotal);
+            pool.put("maxPending", maxPending);
+            pool.put("avgPending", poolSamples == 0 ? 0 : (double) pendingSum / poolSamples);
+            pool.put("saturatedSampleRatio", poolSamples == 0 ? 0 : (double) saturatedSamples / poolSamples);
+            pool.put("acquireP99Millis", MetricsRegistry.connectionAcquireSnapshot().getQuantileMillis(0.99));
+            pool.put("acquireTimeouts", MetricsRegistry.getConnectionTimeouts() - acquireTimeoutsAtStart);
+            report.put("pool", pool);
+        }
+        report.put("executorRejections", totalRejected() - rejectedAtStart);
+        return report;
+    }
+
+    private Map<String, LatencyHistogram.Snapshot> snapshots() {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new LinkedHashMap<>();
+        operations.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> snapshots.put(e.getKey(), e.getValue().snapshot()));
+        return snapshots;
+    }
+
+    private static double percent(long part, long whole) {
+        return whole == 0 ? 0 : 100.0 * part / whole;
+    }
+
+    /** Operations recorded so far, for progress lines */
+    public long completed() {
+        return operations.values().stream().mapToLong(h -> h.snapshot().getCount()).sum();
+    }
+}
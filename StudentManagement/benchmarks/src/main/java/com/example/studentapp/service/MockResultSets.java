@@ -0,0 +1,91 @@
+package com.example.studentapp.service;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.Map;
+
+/**
+ * In-memory ResultSet stand-ins so row mapping can be measured without a database
+ */
+final class MockResultSets {
+    private MockResultSets() {}
+
+    /**
+     * A result set positioned on a single row; supports the getters the mappers use
+     * Index getters read an array and label getters a hash map, like a real driver.
+     */
+    static ResultSet singleRow(Map<String, Object> row, String[] columnOrder) {
+        ResultSetMetaData metaData = metaData(columnOrder);
+        Object[] byIndex = new Object[columnOrder.length];
+        for (int i = 0; i < columnOrder.length; i++) {
+            byIndex[i] = row.get(columnOrder[i]);
+        }
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                (proxy, method, args) -> {
+                    Object value;
+                    if (args != null && args.length == 1 && args[0] instanceof Integer) {
+                        value = byIndex[(Integer) args[0] - 1];
+                    } else if (args != null && args.length == 1 && args[0] instanceof String) {
+                        value = row.get((String) args[0]);
+                    } else {
+                        switch (method.getName()) {
+                            case "next": return Boolean.TRUE;
+                            case "getMetaData": return metaData;
+                            case "wasNull": return Boolean.FALSE;
+                            case "close": return null;
+                            case "hashCode": return System.identityHashCode(proxy);
+                            case "equals": return proxy == args[0];
+                            default: throw new UnsupportedOperationException(method.getName());
+                        }
+                    }
+                    switch (method.getName()) {
+                        case "getString": return value == null ? null : value.toString();
+                        case "getBoolean": return Boolean.TRUE.equals(value);
+                        case "getInt": return value == null ? 0 : ((Number) value).intValue();
+                        case "getObject": return value;
+                        default: throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    private static ResultSetMetaData metaData(String[] columnOrder) {
+        return (ResultSetMetaData) Proxy.newProxyInstance(ResultSetMetaData.class.getClassLoader(),
+                new Class<?>[]{ResultSetMetaData.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getColumnCount": return columnOrder.length;
+                        case "getColumnLabel":
+                        case "getColumnName": return columnOrder[(Integer) args[0] - 1];
+                        case "hashCode": return System.identityHashCode(proxy);
+                        case "equals": return proxy == args[0];
+                        default: throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * A students row; carries both the branch/semester keys and the text columns they replaced
+     */
+    static Map<String, Object> sampleStudentRow() {
+        return Map.ofEntries(
+                Map.entry("student_id", "STU_1718000000000_42"),
+                Map.entry("name", "Asha Raman"),
+                Map.entry("email", "asha.raman@school.com"),
+                Map.entry("password", "pbkdf2$120000$c2FsdHNhbHRzYWx0c2FsdA==$aGFzaGhhc2hoYXNoaGFzaGhhc2hoYXNoaGFzaGhhc2g="),
+                Map.entry("branch", "Computer Science"),
+                Map.entry("semester", "5"),
+                Map.entry("branch_id", SAMPLE_BRANCH_ID),
+                Map.entry("semester_id", SAMPLE_SEMESTER_ID),
+                Map.entry("hostel", Boolean.TRUE),
+                Map.entry("phone", "9876543210"),
+                Map.entry("role", "STUDENT"));
+    }
+
+    static final int SAMPLE_BRANCH_ID = 1;
+    static final int SAMPLE_SEMESTER_ID = 5;
+
+    static final String[] STUDENT_COLUMNS = {
+            "student_id", "name", "email", "password", "branch_id", "semester_id", "hostel", "phone", "role"
+    };
+}
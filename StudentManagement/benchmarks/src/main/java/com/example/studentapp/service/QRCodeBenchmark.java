@@ -0,0 +1,48 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.model.Student;
+import com.example.studentapp.model.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QR code content formatting and full image generation for a hostel student
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class QRCodeBenchmark {
+    private QRCodeService qrCodeService;
+    private Student student;
+
+    @Setup
+    public void setUp() {
+        qrCodeService = new QRCodeService();
+        student = new Student("STU_1718000000000_42", "Asha Raman", "asha.raman@school.com", "",
+                "Computer Science", "5", true, "9876543210", UserRole.STUDENT);
+    }
+
+    @Benchmark
+    public String formatStudentData() {
+        return qrCodeService.formatStudentData(student);
+    }
+
+    @Benchmark
+    public BufferedImage generateStudentQRCode() {
+        return qrCodeService.generateStudentQRCode(student);
+    }
+}
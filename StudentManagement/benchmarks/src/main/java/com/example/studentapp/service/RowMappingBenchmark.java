@@ -0,0 +1,74 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.database.RowMapper;
+import com.example.studentapp.model.Student;
+import com.example.studentapp.model.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping one students row to a Student
+ * byName is the original mapper (getString("column") per field, UserRole.valueOf per row),
+ * reading the text branch and semester columns the reference tables replaced;
+ * boundMapper is MySQLService.STUDENT_MAPPER bound once per result set, as list queries use it;
+ * mapOne also resolves the shape from the metadata, as single-row queries do. Both decode
+ * branch_id and semester_id through the in-memory reference dictionaries.
+ * The mock result set is a dynamic proxy, so absolute numbers include a constant per
+ * getter; compare runs against each other rather than against a real driver.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RowMappingBenchmark {
+    private ResultSet resultSet;
+    private RowMapper.Bound<Student> bound;
+
+    @Setup
+    public void setUp() throws SQLException {
+        MySQLService.REFERENCE_DATA.remember(ReferenceData.Kind.BRANCH, MockResultSets.SAMPLE_BRANCH_ID, "Computer Science");
+        MySQLService.REFERENCE_DATA.remember(ReferenceData.Kind.SEMESTER, MockResultSets.SAMPLE_SEMESTER_ID, "5");
+        resultSet = MockResultSets.singleRow(MockResultSets.sampleStudentRow(), MockResultSets.STUDENT_COLUMNS);
+        bound = MySQLService.STUDENT_MAPPER.bind(resultSet);
+    }
+
+    @Benchmark
+    public Student byName() throws SQLException {
+        Student student = new Student();
+        student.setStudentId(resultSet.getString("student_id"));
+        student.setName(resultSet.getString("name"));
+        student.setEmail(resultSet.getString("email"));
+        student.setPassword(resultSet.getString("password"));
+        student.setBranch(resultSet.getString("branch"));
+        student.setSemester(resultSet.getString("semester"));
+        student.setHostel(resultSet.getBoolean("hostel"));
+        student.setPhone(resultSet.getString("phone"));
+        String roleStr = resultSet.getString("role");
+        student.setRole(roleStr != null ? UserRole.valueOf(roleStr) : UserRole.STUDENT);
+        return student;
+    }
+
+    @Benchmark
+    public Student boundMapper() throws SQLException {
+        return bound.map(resultSet);
+    }
+
+    @Benchmark
+    public Student mapOne() throws SQLException {
+        return MySQLService.STUDENT_MAPPER.mapOne(resultSet);
+    }
+}
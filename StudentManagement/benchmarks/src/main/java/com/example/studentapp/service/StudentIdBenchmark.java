@@ -0,0 +1,36 @@
+package com.example.studentapp.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Student ID generation (StudentIdGenerator, display form), single-threaded and contended
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StudentIdBenchmark {
+
+    private static final StudentIdGenerator GENERATOR = new StudentIdGenerator(1);
+
+    @Benchmark
+    public String generateStudentId() {
+        return GENERATOR.nextStudentId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateStudentIdContended() {
+        return GENERATOR.nextStudentId();
+    }
+}
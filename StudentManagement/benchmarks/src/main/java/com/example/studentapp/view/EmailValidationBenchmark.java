@@ -0,0 +1,38 @@
+package com.example.studentapp.view;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email validation used by the sign-up and student forms
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class EmailValidationBenchmark {
+    @Param({"asha.raman@school.com", "not-an-email", "a.very.long.address.with.many.parts@mail.department.university.edu"})
+    private String email;
+
+    @Benchmark
+    public boolean signupValidation() {
+        return SignupFrame.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean studentFormValidation() {
+        return StudentFormPanel.isValidEmail(email);
+    }
+}
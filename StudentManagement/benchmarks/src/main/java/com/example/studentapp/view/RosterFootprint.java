@@ -0,0 +1,66 @@
+package com.example.studentapp.view;
+
+import com.example.studentapp.model.StudentSummary;
+import com.example.studentapp.model.UserRole;
+import com.example.studentapp.service.StudentIdGenerator;
+import org.openjdk.jol.info.GraphLayout;
+
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Retained heap per student of the admin roster table, measured with JOL
+ * objectRows is what the dashboard held before CompactRoster: a DefaultTableModel with
+ * one Object[] row per student plus the studentId-to-name map used to locate rows.
+ * Branch and semester Strings are shared between rows, as ReferenceData hands them out.
+ *
+ * Usage:
+ *   java -cp target/benchmarks.jar com.example.studentapp.view.RosterFootprint [rows]
+ */
+public class RosterFootprint {
+    private static final String[] BRANCHES = {"Computer Science", "Information Technology",
+            "Electronics", "Electrical", "Mechanical", "Civil"};
+    private static final String[] SEMESTERS = {"1", "2", "3", "4", "5", "6", "7", "8"};
+
+    public static void main(String[] args) {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        List<StudentSummary> students = sampleRoster(rows);
+
+        DefaultTableModel objectRows = new DefaultTableModel(TableModelBenchmark.COLUMN_NAMES, 0);
+        Map<String, String> loadedNames = new HashMap<>();
+        for (StudentSummary student : students) {
+            objectRows.addRow(TableModelBenchmark.toRowData(student));
+            loadedNames.put(student.getStudentId(), student.getName());
+        }
+        StudentTableModel compact = new StudentTableModel();
+        compact.appendRows(students);
+
+        System.out.printf("Roster footprint for %,d students%n", rows);
+        report("List<StudentSummary>", GraphLayout.parseInstance(students), rows);
+        report("objectRows (previous)", GraphLayout.parseInstance(objectRows, loadedNames), rows);
+        report("StudentTableModel", GraphLayout.parseInstance(compact), rows);
+    }
+
+    private static void report(String label, GraphLayout layout, int rows) {
+        System.out.printf("  %-24s %,14d bytes  %7.1f bytes/student  %,12d objects%n",
+                label, layout.totalSize(), (double) layout.totalSize() / rows, layout.totalCount());
+    }
+
+    /**
+     * Students with realistic field lengths; every row has its own name, email, phone and ID
+     */
+    static List<StudentSummary> sampleRoster(int rows) {
+        StudentIdGenerator generator = new StudentIdGenerator(1);
+        List<StudentSummary> students = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            students.add(new StudentSummary(generator.nextStudentId(), "Student Number " + i,
+                    "student.number" + i + "@school.edu", BRANCHES[i % BRANCHES.length],
+                    SEMESTERS[i % SEMESTERS.length], i % 3 == 0, String.valueOf(9_000_000_000L + i),
+                    UserRole.STUDENT));
+        }
+        return students;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.studentapp.view;
+
+import com.example.studentapp.model.StudentSummary;
+import com.example.studentapp.model.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.swing.table.DefaultTableModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Populating the roster table model with one page, as DashboardFrame.updateTable does
+ * objectRows is the previous DefaultTableModel holding one Object[] per student.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class TableModelBenchmark {
+    @Param({"500", "5000"})
+    private int rows;
+
+    private List<StudentSummary> page;
+
+    @Setup
+    public void setUp() {
+        page = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            page.add(new StudentSummary("STU_1718000000000_" + i, "Student " + i, "student" + i + "@school.com",
+                    "Computer Science", String.valueOf(i % 8 + 1), i % 3 == 0, "98765" + (10000 + i), UserRole.STUDENT));
+        }
+    }
+
+    @Benchmark
+    public StudentTableModel appendRows() {
+        StudentTableModel model = new StudentTableModel();
+        model.appendRows(page);
+        return model;
+    }
+
+    @Benchmark
+    public DefaultTableModel objectRows() {
+        DefaultTableModel model = new DefaultTableModel(COLUMN_NAMES, 0);
+        for (StudentSummary student : page) {
+            model.addRow(toRowData(student));
+        }
+        return model;
+    }
+
+    static final String[] COLUMN_NAMES = {
+            "Student ID", "Name", "Email", "Branch", "Semester", "Hostel", "Phone", "Role"
+    };
+
+    static Object[] toRowData(StudentSummary student) {
+        return new Object[]{
+                student.getStudentId(),
+                student.getName(),
+                student.getEmail(),
+                student.getBranch(),
+                student.getSemester(),
+                student.isHostel() ? "Yes" : "No",
+                student.getPhone(),
+                student.getRole() != null ? student.getRole().toString() : "STUDENT"
+        };
+    }
+}
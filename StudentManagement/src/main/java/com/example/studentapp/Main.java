@@ -1,6 +1,7 @@
 // [file name]: Main.java
 package com.example.studentapp;
 
+import com.example.studentapp.service.ApplicationStartup;
 import com.example.studentapp.view.LoginFrame;
 import javax.swing.SwingUtilities;
 
@@ -12,6 +13,9 @@ public class Main {
      * Application entry point
      */
     public static void main(String[] args) {
+        // Connect and migrate in the background while the login window is built
+        ApplicationStartup.begin();
+
         SwingUtilities.invokeLater(() -> {
             try {
                 // Initialize and display the login frame
@@ -2,6 +2,7 @@
 package com.example.studentapp.config;
 
 import java.io.InputStream;
+import java.nio.file.Paths;
 import java.util.Properties;
 
 /**
@@ -43,4 +44,113 @@ public class DatabaseConfig {
     public static int getPoolSize() {
         return Integer.parseInt(properties.getProperty("db.pool.size", "10"));
     }
-}
\ No newline at end of file
+
+    public static int getPoolMinimumIdle() {
+        return Integer.parseInt(properties.getProperty("db.pool.min.idle", "2"));
+    }
+
+    public static int getStudentCacheSize() {
+        return Integer.parseInt(properties.getProperty("cache.student.size", "10000"));
+    }
+
+    public static long getStudentCacheTtlSeconds() {
+        return Long.parseLong(properties.getProperty("cache.student.ttl.seconds", "60"));
+    }
+
+    public static int getExecutorThreads(String operationClass, int defaultThreads) {
+        return Integer.parseInt(properties.getProperty("executor." + operationClass + ".threads",
+                String.valueOf(defaultThreads)));
+    }
+
+    public static int getExecutorQueueCapacity(String operationClass, int defaultCapacity) {
+        return Integer.parseInt(properties.getProperty("executor." + operationClass + ".queue",
+                String.valueOf(defaultCapacity)));
+    }
+
+    public static String getExecutorRejectionPolicy(String operationClass) {
+        return properties.getProperty("executor." + operationClass + ".rejection", "abort");
+    }
+
+    public static int getPasswordHashIterations() {
+        return Integer.parseInt(properties.getProperty("auth.hash.iterations", "120000"));
+    }
+
+    public static long getLoginRatePerSecond() {
+        return Long.parseLong(properties.getProperty("auth.rate.global.per.second", "200"));
+    }
+
+    public static int getLoginMaxFailures() {
+        return Integer.parseInt(properties.getProperty("auth.rate.account.max.failures", "5"));
+    }
+
+    public static long getLoginFailureWindowSeconds() {
+        return Long.parseLong(properties.getProperty("auth.rate.account.window.seconds", "300"));
+    }
+
+    public static long getLoginNegativeCacheSeconds() {
+        return Long.parseLong(properties.getProperty("auth.negative.cache.seconds", "30"));
+    }
+
+    public static int getMetricsHttpPort() {
+        return Integer.parseInt(properties.getProperty("metrics.http.port", "0"));
+    }
+
+    public static int getTombstoneRetentionDays() {
+        return Integer.parseInt(properties.getProperty("tombstone.retention.days", "7"));
+    }
+
+    public static long getEmailFilterExpectedInsertions() {
+        return Long.parseLong(properties.getProperty("email.filter.expected", "1000000"));
+    }
+
+    public static double getEmailFilterFalsePositiveRate() {
+        return Double.parseDouble(properties.getProperty("email.filter.fpp", "0.01"));
+    }
+
+    /**
+     * True when store.mode=memory: the roster lives in memory and MySQL is not used
+     */
+    public static boolean isInMemoryStore() {
+        return "memory".equalsIgnoreCase(properties.getProperty("store.mode", "mysql").trim());
+    }
+
+    public static String getSnapshotFile() {
+        return properties.getProperty("store.snapshot.file", "student-store.json");
+    }
+
+    public static long getSnapshotIntervalSeconds() {
+        return Long.parseLong(properties.getProperty("store.snapshot.interval.seconds", "30"));
+    }
+
+    public static boolean isWriteBehindEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("write.behind.enabled", "false").trim());
+    }
+
+    public static long getWriteBehindWindowMillis() {
+        return Long.parseLong(properties.getProperty("write.behind.window.millis", "200"));
+    }
+
+    public static int getWriteBehindMaxPending() {
+        return Integer.parseInt(properties.getProperty("write.behind.max.pending", "1000"));
+    }
+
+    /**
+     * True to save the admin roster at logout and show it at the next login while it is refreshed
+     */
+    public static boolean isRosterSnapshotEnabled() {
+        return Boolean.parseBoolean(properties.getProperty("roster.snapshot.enabled", "true").trim());
+    }
+
+    public static String getRosterSnapshotDir() {
+        return properties.getProperty("roster.snapshot.dir",
+                Paths.get(System.getProperty("user.home"), ".student-management").toString());
+    }
+
+    /**
+     * Node ID (0-1023) embedded in generated student IDs; must differ between app instances
+     * sharing a database
+     */
+    public static int getStudentIdNode() {
+        return Integer.parseInt(properties.getProperty("student.id.node", "0").trim());
+    }
+}
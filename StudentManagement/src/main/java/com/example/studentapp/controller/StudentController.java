@@ -2,85 +2,191 @@
 package com.example.studentapp.controller;
 
 import com.example.studentapp.model.Student;
+import com.example.studentapp.model.StudentQuery;
+import com.example.studentapp.model.StudentSummary;
 import com.example.studentapp.model.Admin;
-import com.example.studentapp.service.MySQLService; // Change this import
+import com.example.studentapp.model.StudentDelta;
+import com.example.studentapp.config.DatabaseConfig;
+import com.example.studentapp.service.InMemoryStudentRepository;
+import com.example.studentapp.service.MySQLService;
+import com.example.studentapp.service.ReferenceData;
+import com.example.studentapp.service.RosterAnalytics;
+import com.example.studentapp.service.StudentBulkImporter;
+import com.example.studentapp.service.StudentExporter;
+import com.example.studentapp.service.StudentRepository;
+import com.example.studentapp.service.StudentSearchIndex;
 
+import java.io.File;
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
- * Controller class handling business logic between UI and MySQL service
+ * Controller class handling business logic between UI and the student repository
  */
 public class StudentController {
-    private MySQLService mySQLService; // Change this
+    private final StudentRepository repository;
 
     /**
-     * Constructor - initializes MySQL service
+     * Constructor - uses the repository selected by store.mode (MySQL unless "memory")
      */
     public StudentController() {
-        this.mySQLService = MySQLService.getInstance(); // Change this
+        this(DatabaseConfig.isInMemoryStore() ? InMemoryStudentRepository.getInstance() : MySQLService.getInstance());
+    }
+
+    /**
+     * Constructor for an explicit repository (e.g. an in-memory store in tools and benchmarks)
+     */
+    public StudentController(StudentRepository repository) {
+        this.repository = repository;
     }
 
     /**
      * Authenticates a student with email and password
      */
     public CompletableFuture<Student> authenticateStudent(String email, String password) {
-        return mySQLService.authenticateStudent(email, password); // Change this
+        return repository.authenticateStudent(email, password);
     }
 
     /**
      * Authenticates an admin with username and password
      */
     public CompletableFuture<Admin> authenticateAdmin(String username, String password) {
-        return mySQLService.authenticateAdmin(username, password); // Change this
+        return repository.authenticateAdmin(username, password);
     }
 
     /**
-     * Retrieves all students from database
+     * Retrieves all students
      */
     public CompletableFuture<List<Student>> getAllStudents() {
-        return mySQLService.getAllStudents(); // Change this
+        return repository.getAllStudents();
+    }
+
+    /**
+     * Retrieves one page of student summaries after the given (name, studentId) cursor
+     */
+    public CompletableFuture<List<StudentSummary>> getStudentsPage(String afterName, String afterStudentId, int limit) {
+        return repository.getStudentsPage(afterName, afterStudentId, limit);
+    }
+
+    /**
+     * Searches students with server-side filters
+     */
+    public CompletableFuture<List<StudentSummary>> searchStudents(StudentQuery query) {
+        return repository.searchStudents(query);
+    }
+
+    /**
+     * Type-ahead search over name, email and phone served from the in-memory index
+     * Runs synchronously; it is cheap enough to call on every keystroke
+     */
+    public StudentSearchIndex.SearchResult quickSearch(String text, int limit) {
+        return repository.getSearchIndex().search(text, limit);
+    }
+
+    /**
+     * True once the type-ahead index holds the whole roster
+     */
+    public boolean isQuickSearchReady() {
+        return repository.getSearchIndex().isReady();
+    }
+
+    /**
+     * Retrieves students changed or deleted since the watermark
+     */
+    public CompletableFuture<StudentDelta> getStudentsModifiedSince(Timestamp watermark) {
+        return repository.getStudentsModifiedSince(watermark);
     }
 
     /**
      * Retrieves a specific student by ID
      */
     public CompletableFuture<Student> getStudentById(String studentId) {
-        return mySQLService.getStudentById(studentId); // Change this
+        return repository.getStudentById(studentId);
     }
 
     /**
-     * Adds a new student to the database
+     * Adds a new student
      */
     public CompletableFuture<String> addStudent(Student student) {
-        return mySQLService.addStudent(student); // Change this
+        return repository.addStudent(student);
     }
 
     /**
-     * Updates an existing student in the database
+     * Updates an existing student
      */
     public CompletableFuture<Void> updateStudent(Student student) {
-        return mySQLService.updateStudent(student.getStudentId(), student); // Change this
+        return repository.updateStudent(student.getStudentId(), student);
     }
 
     /**
-     * Deletes a student from the database
+     * Deletes a student
      */
     public CompletableFuture<Void> deleteStudent(String studentId) {
-        return mySQLService.deleteStudent(studentId); // Change this
+        return repository.deleteStudent(studentId);
+    }
+
+    /**
+     * Imports students in bulk from CSV/JSON files
+     */
+    public CompletableFuture<StudentBulkImporter.ImportResult> importStudents(
+            List<File> files, StudentBulkImporter.ProgressListener listener) {
+        return repository.importStudents(files, listener);
+    }
+
+    /**
+     * Streams the whole roster to a CSV or JSON file
+     */
+    public CompletableFuture<Long> exportStudents(File file, StudentExporter.Format format) {
+        return repository.exportStudents(file, format);
+    }
+
+    /**
+     * Loads (or reloads) the in-memory columnar roster used for statistics
+     */
+    public CompletableFuture<Integer> loadRosterStatistics() {
+        return repository.getRosterAnalytics().load();
+    }
+
+    /**
+     * True once a columnar roster snapshot is available
+     */
+    public boolean isRosterStatisticsLoaded() {
+        return repository.getRosterAnalytics().isLoaded();
+    }
+
+    /**
+     * Gets the roster analytics engine for group-by/count queries
+     */
+    public RosterAnalytics getRosterStatistics() {
+        return repository.getRosterAnalytics();
+    }
+
+    /**
+     * Branch names for the form dropdowns
+     */
+    public CompletableFuture<List<String>> getBranches() {
+        return repository.getReferenceValues(ReferenceData.Kind.BRANCH);
+    }
+
+    /**
+     * Semester names for the form dropdowns
+     */
+    public CompletableFuture<List<String>> getSemesters() {
+        return repository.getReferenceValues(ReferenceData.Kind.SEMESTER);
     }
 
     /**
-     * Checks if email already exists in database
+     * Checks if email already exists
      */
     public CompletableFuture<Boolean> emailExists(String email, String excludeStudentId) {
-        return mySQLService.emailExists(email, excludeStudentId); // Change this
+        return repository.emailExists(email, excludeStudentId);
     }
 
     /**
      * Creates default admin account for first-time setup
      */
     public void createDefaultAdmin() {
-        mySQLService.createDefaultAdmin(); // Change this
+        repository.createDefaultAdmin();
     }
 }
\ No newline at end of file
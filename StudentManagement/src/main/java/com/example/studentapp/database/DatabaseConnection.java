@@ -22,11 +22,12 @@ public class DatabaseConnection {
             config.setUsername(DatabaseConfig.getUsername());
             config.setPassword(DatabaseConfig.getPassword());
             config.setMaximumPoolSize(DatabaseConfig.getPoolSize());
-            config.setMinimumIdle(2);
+            config.setMinimumIdle(DatabaseConfig.getPoolMinimumIdle());
             config.setConnectionTimeout(30000);
             config.setIdleTimeout(300000);
             config.setMaxLifetime(600000);
             config.setDriverClassName("com.mysql.cj.jdbc.Driver");
+            config.setMetricsTrackerFactory(MetricsRegistry.hikariTrackerFactory());
 
             // MySQL specific optimizations
             config.addDataSourceProperty("cachePrepStmts", "true");
@@ -0,0 +1,166 @@
+package com.example.studentapp.database;
+
+import com.example.studentapp.config.DatabaseConfig;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dedicated, bounded executors (bulkheads) for blocking JDBC work
+ * Each operation class gets its own threads and queue so a slow export or a login
+ * storm cannot starve the others. Default thread counts are derived from db.pool.size
+ * so that every thread can hold a pooled connection at the same time.
+ */
+public class DatabaseExecutors {
+
+    /**
+     * Classes of database work that are isolated from each other
+     */
+    public enum OperationClass {
+        AUTH("auth", 4, 200),
+        POINT_READ("point-read", 4, 200),
+        LIST_READ("list-read", 5, 20),
+        WRITE("write", 4, 500),
+        BULK("bulk", 0, 4);
+
+        private final String key;
+        private final int poolDivisor;
+        private final int defaultQueueCapacity;
+
+        OperationClass(String key, int poolDivisor, int defaultQueueCapacity) {
+            this.key = key;
+            this.poolDivisor = poolDivisor;
+            this.defaultQueueCapacity = defaultQueueCapacity;
+        }
+
+        public String getKey() { return key; }
+
+        /**
+         * Default share of db.pool.size; bulk work always gets a single thread
+         */
+        int defaultThreads(int poolSize) {
+            return poolDivisor == 0 ? 1 : Math.max(1, poolSize / poolDivisor);
+        }
+    }
+
+    private static final Map<OperationClass, BoundedExecutor> executors = new EnumMap<>(OperationClass.class);
+
+    static {
+        int poolSize = DatabaseConfig.getPoolSize();
+        for (OperationClass operationClass : OperationClass.values()) {
+            int threads = DatabaseConfig.getExecutorThreads(operationClass.getKey(), operationClass.defaultThreads(poolSize));
+            int queueCapacity = DatabaseConfig.getExecutorQueueCapacity(operationClass.getKey(), operationClass.defaultQueueCapacity);
+            boolean callerRuns = "caller-runs".equalsIgnoreCase(DatabaseConfig.getExecutorRejectionPolicy(operationClass.getKey()));
+            executors.put(operationClass, new BoundedExecutor(operationClass.getKey(), threads, queueCapacity, callerRuns));
+        }
+    }
+
+    /**
+     * Gets the executor for an operation class
+     */
+    public static BoundedExecutor get(OperationClass operationClass) {
+        return executors.get(operationClass);
+    }
+
+    /**
+     * Gets all executors in operation-class order (for diagnostics)
+     */
+    public static List<BoundedExecutor> all() {
+        return new ArrayList<>(executors.values());
+    }
+
+    /**
+     * Stops accepting work and lets queued tasks finish
+     */
+    public static void shutdown() {
+        for (BoundedExecutor executor : executors.values()) {
+            executor.pool.shutdown();
+        }
+    }
+
+    /**
+     * Fixed-size executor with a bounded queue and queue-wait instrumentation
+     */
+    public static class BoundedExecutor implements Executor {
+        private final String name;
+        private final ThreadPoolExecutor pool;
+        private final AtomicLong submitted = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicLong maxWaitNanos = new AtomicLong();
+        private final AtomicLong started = new AtomicLong();
+
+        public BoundedExecutor(String name, int threads, int queueCapacity, boolean callerRuns) {
+            this.name = name;
+
+            AtomicInteger threadNumber = new AtomicInteger();
+            ThreadFactory threadFactory = runnable -> {
+                Thread thread = new Thread(runnable, "db-" + name + "-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+
+            RejectedExecutionHandler handler = (runnable, executor) -> {
+                rejected.incrementAndGet();
+                if (callerRuns && !executor.isShutdown()) {
+                    runnable.run();
+                } else {
+                    throw new RejectedExecutionException("Database " + name + " executor is saturated ("
+                            + executor.getQueue().size() + " queued), please try again");
+                }
+            };
+
+            this.pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), threadFactory, handler);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            long enqueuedAt = System.nanoTime();
+            submitted.incrementAndGet();
+            pool.execute(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                totalWaitNanos.addAndGet(waited);
+                maxWaitNanos.accumulateAndGet(waited, Math::max);
+                started.incrementAndGet();
+                command.run();
+            });
+        }
+
+        public String getName() { return name; }
+        public int getThreads() { return pool.getMaximumPoolSize(); }
+        public int getActiveCount() { return pool.getActiveCount(); }
+        public int getQueueDepth() { return pool.getQueue().size(); }
+        public int getQueueCapacity() { return pool.getQueue().size() + pool.getQueue().remainingCapacity(); }
+        public long getSubmitted() { return submitted.get(); }
+        public long getCompleted() { return pool.getCompletedTaskCount(); }
+        public long getRejected() { return rejected.get(); }
+
+        public double getAverageWaitMillis() {
+            long count = started.get();
+            return count == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / count;
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitNanos.get() / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s{threads=%d, active=%d, queued=%d/%d, completed=%d, rejected=%d, avgWait=%.2fms, maxWait=%.2fms}",
+                    name, getThreads(), getActiveCount(), getQueueDepth(), getQueueCapacity(),
+                    getCompleted(), getRejected(), getAverageWaitMillis(), getMaxWaitMillis());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.studentapp.database;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decodes enum columns through a name lookup table built once per enum type
+ * Avoids Enum.valueOf, which goes through the enum's lazily built directory and a
+ * reflective exception path for unknown names.
+ */
+public final class EnumDecoder<E extends Enum<E>> {
+    private final Class<E> type;
+    private final E defaultValue;
+    private final Map<String, E> byName = new HashMap<>();
+
+    /**
+     * @param defaultValue returned for SQL NULL
+     */
+    public EnumDecoder(Class<E> type, E defaultValue) {
+        this.type = type;
+        this.defaultValue = defaultValue;
+        for (E constant : type.getEnumConstants()) {
+            byName.put(constant.name(), constant);
+        }
+    }
+
+    /**
+     * The constant with the given name, or the default for null
+     * @throws IllegalArgumentException for a name that is not a constant, like Enum.valueOf
+     */
+    public E decode(String name) {
+        if (name == null) {
+            return defaultValue;
+        }
+        E constant = byName.get(name);
+        if (constant == null) {
+            throw new IllegalArgumentException("No enum constant " + type.getName() + "." + name);
+        }
+        return constant;
+    }
+}
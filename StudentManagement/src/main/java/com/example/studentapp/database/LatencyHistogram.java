@@ -0,0 +1,119 @@
+package com.example.studentapp.database;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with HDR-style log-linear buckets
+ * Every power-of-two range of microseconds is split into 32 linear sub-buckets, so
+ * recorded values keep about 3% precision from 1 us up to days, in a fixed ~9 KB.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_MSB = 40; // ~12.7 days in microseconds
+    private static final int BUCKETS = 2 * SUB_BUCKETS + (MAX_MSB - SUB_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong sumMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Point-in-time copy used for reporting
+     */
+    public static class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long errors;
+        private final long sumMicros;
+        private final long maxMicros;
+
+        Snapshot(long[] counts, long count, long errors, long sumMicros, long maxMicros) {
+            this.counts = counts;
+            this.count = count;
+            this.errors = errors;
+            this.sumMicros = sumMicros;
+            this.maxMicros = maxMicros;
+        }
+
+        public long getCount() { return count; }
+        public long getErrors() { return errors; }
+        public double getSumMillis() { return sumMicros / 1000.0; }
+        public double getMaxMillis() { return maxMicros / 1000.0; }
+
+        public double getMeanMillis() {
+            return count == 0 ? 0.0 : sumMicros / 1000.0 / count;
+        }
+
+        /**
+         * Value at the given quantile (0..1) in milliseconds, 0 when empty
+         */
+        public double getQuantileMillis(double quantile) {
+            long total = 0;
+            for (long c : counts) {
+                total += c;
+            }
+            if (total == 0) {
+                return 0.0;
+            }
+
+            long rank = Math.max(1, (long) Math.ceil(quantile * total));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(representative(i), maxMicros) / 1000.0;
+                }
+            }
+            return maxMicros / 1000.0;
+        }
+    }
+
+    /**
+     * Records one completed operation
+     * @param nanos elapsed time
+     * @param failed whether the operation ended in an error
+     */
+    public void record(long nanos, boolean failed) {
+        long micros = Math.max(0, nanos / 1000);
+        counts.incrementAndGet(indexOf(micros));
+        count.incrementAndGet();
+        sumMicros.addAndGet(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+        if (failed) {
+            errors.incrementAndGet();
+        }
+    }
+
+    public Snapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new Snapshot(copy, count.get(), errors.get(), sumMicros.get(), maxMicros.get());
+    }
+
+    private static int indexOf(long micros) {
+        if (micros < 2 * SUB_BUCKETS) {
+            return (int) micros; // exact below 64 us
+        }
+        int msb = Math.min(MAX_MSB, 63 - Long.numberOfLeadingZeros(micros));
+        int shift = msb - SUB_BITS;
+        long top = Math.min(micros >>> shift, 2 * SUB_BUCKETS - 1);
+        return 2 * SUB_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (top - SUB_BUCKETS);
+    }
+
+    /**
+     * Midpoint of a bucket in microseconds
+     */
+    private static long representative(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - 2 * SUB_BUCKETS) / SUB_BUCKETS + 1;
+        long top = (index - 2 * SUB_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return (top << shift) + (1L << shift) / 2;
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.studentapp.database;
+
+import com.example.studentapp.config.DatabaseConfig;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+/**
+ * In-process metrics: per-operation latency histograms, Hikari pool gauges and
+ * executor/cache gauges, exportable in Prometheus text format
+ * Operation latency is measured from submission to completion, so it includes
+ * executor queue wait as seen by the caller.
+ */
+public class MetricsRegistry {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private static final Map<String, LatencyHistogram> operations = new ConcurrentSkipListMap<>();
+    private static final Map<String, Gauge> gauges = new ConcurrentSkipListMap<>();
+    private static final LatencyHistogram connectionAcquire = new LatencyHistogram();
+    private static final LatencyHistogram connectionUsage = new LatencyHistogram();
+    private static final AtomicLong connectionTimeouts = new AtomicLong();
+    private static HttpServer httpServer;
+
+    /**
+     * Named numeric value sampled at export time
+     */
+    private static class Gauge {
+        final String help;
+        final DoubleSupplier value;
+
+        Gauge(String help, DoubleSupplier value) {
+            this.help = help;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Records the latency and outcome of an asynchronous operation
+     * @return the same future, for chaining
+     */
+    public static <T> CompletableFuture<T> track(String operation, CompletableFuture<T> future) {
+        long start = System.nanoTime();
+        LatencyHistogram histogram = histogram(operation);
+        future.whenComplete((result, error) -> histogram.record(System.nanoTime() - start, error != null));
+        return future;
+    }
+
+    /**
+     * Gets (creating if needed) the histogram for an operation
+     */
+    public static LatencyHistogram histogram(String operation) {
+        return operations.computeIfAbsent(operation, k -> new LatencyHistogram());
+    }
+
+    /**
+     * Snapshots of every operation histogram, sorted by name
+     */
+    public static Map<String, LatencyHistogram.Snapshot> operationSnapshots() {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+        operations.forEach((name, histogram) -> snapshots.put(name, histogram.snapshot()));
+        return snapshots;
+    }
+
+    /**
+     * Registers a gauge; the name must be a valid Prometheus metric name (without prefix)
+     */
+    public static void registerGauge(String name, String help, DoubleSupplier value) {
+        gauges.put(name, new Gauge(help, value));
+    }
+
+    /**
+     * Current value of every registered gauge, sorted by name
+     */
+    public static Map<String, Double> gaugeValues() {
+        Map<String, Double> values = new TreeMap<>();
+        gauges.forEach((name, gauge) -> values.put(name, gauge.value.getAsDouble()));
+        return values;
+    }
+
+    /**
+     * Hikari metrics tracker feeding connection acquisition and usage histograms
+     */
+    public static MetricsTrackerFactory hikariTrackerFactory() {
+        return (poolName, poolStats) -> new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                connectionAcquire.record(elapsedAcquiredNanos, false);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                connectionUsage.record(elapsedBorrowedMillis * 1_000_000L, false);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                connectionTimeouts.incrementAndGet();
+            }
+        };
+    }
+
+    public static LatencyHistogram.Snapshot connectionAcquireSnapshot() {
+        return connectionAcquire.snapshot();
+    }
+
+    public static LatencyHistogram.Snapshot connectionUsageSnapshot() {
+        return connectionUsage.snapshot();
+    }
+
+    public static long getConnectionTimeouts() {
+        return connectionTimeouts.get();
+    }
+
+    /**
+     * Live pool state, or null before the pool has started or when MySQL is not used
+     */
+    public static HikariPoolMXBean poolStats() {
+        if (DatabaseConfig.isInMemoryStore()) {
+            return null; // Touching DatabaseConnection would open a pool
+        }
+        HikariDataSource dataSource = (HikariDataSource) DatabaseConnection.getDataSource();
+        return dataSource == null ? null : dataSource.getHikariPoolMXBean();
+    }
+
+    /**
+     * Writes every metric in Prometheus text exposition format (version 0.0.4)
+     */
+    public static void writePrometheus(Writer out) throws IOException {
+        out.write("# HELP studentapp_operation_latency_seconds Database operation latency including queue wait\n");
+        out.write("# TYPE studentapp_operation_latency_seconds summary\n");
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : operationSnapshots().entrySet()) {
+            writeSummary(out, "studentapp_operation_latency_seconds", "operation=\"" + entry.getKey() + "\"", entry.getValue());
+        }
+        out.write("# HELP studentapp_operation_errors_total Database operations that failed\n");
+        out.write("# TYPE studentapp_operation_errors_total counter\n");
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : operationSnapshots().entrySet()) {
+            writeSample(out, "studentapp_operation_errors_total", "operation=\"" + entry.getKey() + "\"", entry.getValue().getErrors());
+        }
+
+        HikariPoolMXBean pool = poolStats();
+        if (pool != null) {
+            out.write("# HELP studentapp_pool_connections Pooled connections by state\n");
+            out.write("# TYPE studentapp_pool_connections gauge\n");
+            writeSample(out, "studentapp_pool_connections", "state=\"active\"", pool.getActiveConnections());
+            writeSample(out, "studentapp_pool_connections", "state=\"idle\"", pool.getIdleConnections());
+            writeSample(out, "studentapp_pool_connections", "state=\"total\"", pool.getTotalConnections());
+            writeGauge(out, "studentapp_pool_pending_threads", "Threads waiting for a connection", pool.getThreadsAwaitingConnection());
+        }
+        out.write("# HELP studentapp_pool_acquire_seconds Time to borrow a connection from the pool\n");
+        out.write("# TYPE studentapp_pool_acquire_seconds summary\n");
+        writeSummary(out, "studentapp_pool_acquire_seconds", null, connectionAcquire.snapshot());
+        out.write("# HELP studentapp_pool_usage_seconds Time a borrowed connection was held\n");
+        out.write("# TYPE studentapp_pool_usage_seconds summary\n");
+        writeSummary(out, "studentapp_pool_usage_seconds", null, connectionUsage.snapshot());
+        out.write("# HELP studentapp_pool_timeouts_total Connection requests that timed out\n");
+        out.write("# TYPE studentapp_pool_timeouts_total counter\n");
+        writeSample(out, "studentapp_pool_timeouts_total", null, connectionTimeouts.get());
+
+        out.write("# HELP studentapp_executor_queue_depth Tasks waiting per database executor\n");
+        out.write("# TYPE studentapp_executor_queue_depth gauge\n");
+        for (DatabaseExecutors.BoundedExecutor executor : DatabaseExecutors.all()) {
+            writeSample(out, "studentapp_executor_queue_depth", "executor=\"" + executor.getName() + "\"", executor.getQueueDepth());
+        }
+        out.write("# HELP studentapp_executor_active Busy threads per database executor\n");
+        out.write("# TYPE studentapp_executor_active gauge\n");
+        for (DatabaseExecutors.BoundedExecutor executor : DatabaseExecutors.all()) {
+            writeSample(out, "studentapp_executor_active", "executor=\"" + executor.getName() + "\"", executor.getActiveCount());
+        }
+        out.write("# HELP studentapp_executor_rejected_total Tasks rejected per database executor\n");
+        out.write("# TYPE studentapp_executor_rejected_total counter\n");
+        for (DatabaseExecutors.BoundedExecutor executor : DatabaseExecutors.all()) {
+            writeSample(out, "studentapp_executor_rejected_total", "executor=\"" + executor.getName() + "\"", executor.getRejected());
+        }
+
+        for (Map.Entry<String, Gauge> entry : gauges.entrySet()) {
+            writeGauge(out, "studentapp_" + entry.getKey(), entry.getValue().help, entry.getValue().value.getAsDouble());
+        }
+        out.flush();
+    }
+
+    /**
+     * Prometheus text as a string
+     */
+    public static String toPrometheusText() {
+        StringWriter writer = new StringWriter();
+        try {
+            writePrometheus(writer);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to format metrics: " + e.getMessage(), e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Serves GET /metrics on the loopback interface; port 0 or below disables it
+     */
+    public static synchronized void startHttpServer(int port) {
+        if (port <= 0 || httpServer != null) {
+            return;
+        }
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+            httpServer.createContext("/metrics", exchange -> {
+                byte[] body = toPrometheusText().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            });
+            httpServer.start();
+            System.out.println("✅ Metrics available at http://localhost:" + port + "/metrics");
+        } catch (IOException e) {
+            System.err.println("❌ Failed to start metrics endpoint: " + e.getMessage());
+        }
+    }
+
+    private static void writeSummary(Writer out, String name, String labels, LatencyHistogram.Snapshot snapshot) throws IOException {
+        for (double quantile : QUANTILES) {
+            String quantileLabel = "quantile=\"" + quantile + "\"";
+            writeSample(out, name, labels == null ? quantileLabel : labels + "," + quantileLabel,
+                    snapshot.getQuantileMillis(quantile) / 1000.0);
+        }
+        writeSample(out, name + "_sum", labels, snapshot.getSumMillis() / 1000.0);
+        writeSample(out, name + "_count", labels, snapshot.getCount());
+    }
+
+    private static void writeGauge(Writer out, String name, String help, double value) throws IOException {
+        out.write("# HELP " + name + " " + help + "\n");
+        out.write("# TYPE " + name + " gauge\n");
+        writeSample(out, name, null, value);
+    }
+
+    private static void writeSample(Writer out, String name, String labels, double value) throws IOException {
+        out.write(name);
+        if (labels != null) {
+            out.write("{" + labels + "}");
+        }
+        out.write(' ');
+        out.write(value == Math.rint(value) && Math.abs(value) < 1e15
+                ? String.valueOf((long) value)
+                : String.format(Locale.ROOT, "%.6g", value));
+        out.write('\n');
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.studentapp.database;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Index-based row mapper
+ * The column labels a mapper needs are resolved to indexes once per result set shape
+ * (the ordered labels from ResultSetMetaData) and remembered, so mapping a row is one
+ * reader call doing getX(index) with no per-column name lookups. The reader is a single
+ * lambda rather than one per column, which keeps the row loop monomorphic for the JIT.
+ *
+ * <pre>
+ * RowMapper.Bound&lt;Student&gt; mapper = STUDENT_MAPPER.bind(rs);
+ * while (rs.next()) students.add(mapper.map(rs));
+ * </pre>
+ */
+public final class RowMapper<T> {
+
+    /**
+     * Builds an object from the current row
+     * columns[i] is the index of the i-th label the mapper was created with.
+     */
+    @FunctionalInterface
+    public interface Reader<T> {
+        T read(ResultSet rs, int[] columns) throws SQLException;
+    }
+
+    private final Reader<T> reader;
+    private final String[] labels;
+    private volatile Bound<T>[] shapes;
+
+    private RowMapper(Reader<T> reader, String[] labels) {
+        this.reader = reader;
+        this.labels = labels.clone();
+        this.shapes = noShapes();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Bound<T>[] noShapes() {
+        return new Bound[0];
+    }
+
+    /**
+     * A mapper reading the given columns, e.g.
+     * {@code RowMapper.of((rs, c) -> new Admin(rs.getString(c[0]), ...), "admin_id", ...)}
+     */
+    public static <T> RowMapper<T> of(Reader<T> reader, String... labels) {
+        return new RowMapper<>(reader, labels);
+    }
+
+    /**
+     * Resolves this mapper against the result set's columns; reuse the result for every row
+     * A mapper only ever sees a handful of shapes, so they are kept in a small
+     * copy-on-write array and matched label by label without allocating.
+     * @throws SQLException if the query does not select one of the mapper's columns
+     */
+    public Bound<T> bind(ResultSet rs) throws SQLException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        for (Bound<T> bound : shapes) {
+            if (bound.matches(metaData)) {
+                return bound;
+            }
+        }
+        return addShape(metaData);
+    }
+
+    private synchronized Bound<T> addShape(ResultSetMetaData metaData) throws SQLException {
+        String[] columns = new String[metaData.getColumnCount()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = metaData.getColumnLabel(i + 1);
+        }
+        Bound<T> bound = resolve(columns);
+        Bound<T>[] grown = Arrays.copyOf(shapes, shapes.length + 1);
+        grown[shapes.length] = bound;
+        shapes = grown;
+        return bound;
+    }
+
+    /**
+     * Maps the current row without keeping the binding, for single-row queries
+     */
+    public T mapOne(ResultSet rs) throws SQLException {
+        return bind(rs).map(rs);
+    }
+
+    private Bound<T> resolve(String[] columns) throws SQLException {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = columns.length - 1; i >= 0; i--) {
+            // The first of duplicate labels wins, as in findColumn
+            indexes.put(columns[i].toLowerCase(Locale.ROOT), i + 1);
+        }
+
+        int[] resolved = new int[labels.length];
+        for (int i = 0; i < labels.length; i++) {
+            Integer index = indexes.get(labels[i].toLowerCase(Locale.ROOT));
+            if (index == null) {
+                throw new SQLException("Column '" + labels[i] + "' not found in result set");
+            }
+            resolved[i] = index;
+        }
+        return new Bound<>(reader, columns, resolved);
+    }
+
+    /**
+     * A mapper resolved against one result set shape
+     */
+    public static final class Bound<T> {
+        private final Reader<T> reader;
+        private final String[] shape;
+        private final int[] columns;
+
+        private Bound(Reader<T> reader, String[] shape, int[] columns) {
+            this.reader = reader;
+            this.shape = shape;
+            this.columns = columns;
+        }
+
+        private boolean matches(ResultSetMetaData metaData) throws SQLException {
+            if (metaData.getColumnCount() != shape.length) {
+                return false;
+            }
+            for (int i = 0; i < shape.length; i++) {
+                if (!shape[i].equalsIgnoreCase(metaData.getColumnLabel(i + 1))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Maps the row the result set is positioned on
+         */
+        public T map(ResultSet rs) throws SQLException {
+            return reader.read(rs, columns);
+        }
+    }
+}
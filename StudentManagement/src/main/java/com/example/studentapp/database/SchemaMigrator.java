@@ -0,0 +1,255 @@
+package com.example.studentapp.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Versioned schema migrations tracked in the schema_version table
+ * Startup reads the current version with a single query and only runs DDL when a
+ * migration is pending. Migrations are append-only: never edit one that has shipped,
+ * add a new version instead.
+ */
+public class SchemaMigrator {
+    private static final int MYSQL_TABLE_MISSING = 1146;
+    private static final int MYSQL_DUPLICATE_COLUMN = 1060;
+    private static final int MYSQL_DUPLICATE_KEY_NAME = 1061;
+    private static final int MYSQL_CANT_DROP_KEY = 1091;
+    private static final String LOCK_NAME = "student_app_schema";
+    private static final int LOCK_TIMEOUT_SECONDS = 30;
+
+    /**
+     * One schema change; statements run in order and the version is recorded afterwards
+     */
+    private static class Migration {
+        final int version;
+        final String description;
+        final String[] statements;
+
+        Migration(int version, String description, String... statements) {
+            this.version = version;
+            this.description = description;
+            this.statements = statements;
+        }
+    }
+
+    private static final List<Migration> MIGRATIONS = List.of(
+            new Migration(1, "Create students and admins tables",
+                    """
+                    CREATE TABLE IF NOT EXISTS students (
+                        student_id VARCHAR(50) PRIMARY KEY,
+                        name VARCHAR(100) NOT NULL,
+                        email VARCHAR(100) UNIQUE NOT NULL,
+                        password VARCHAR(100) NOT NULL,
+                        branch VARCHAR(50) NOT NULL,
+                        semester VARCHAR(20) NOT NULL,
+                        hostel BOOLEAN DEFAULT FALSE,
+                        phone VARCHAR(15),
+                        role VARCHAR(20) DEFAULT 'STUDENT',
+                        created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                        updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+                    )
+                    """,
+                    """
+                    CREATE TABLE IF NOT EXISTS admins (
+                        admin_id VARCHAR(50) PRIMARY KEY,
+                        username VARCHAR(50) UNIQUE NOT NULL,
+                        password VARCHAR(100) NOT NULL,
+                        email VARCHAR(100),
+                        name VARCHAR(100) NOT NULL,
+                        created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                    )
+                    """),
+            new Migration(2, "Add roster listing and filter indexes",
+                    "CREATE INDEX idx_student_name_id ON students(name, student_id)",
+                    "CREATE INDEX idx_student_branch_sem_name ON students(branch, semester, name)",
+                    "CREATE INDEX idx_student_hostel_branch ON students(hostel, branch)"),
+            new Migration(3, "Add delta refresh support",
+                    """
+                    CREATE TABLE IF NOT EXISTS student_tombstones (
+                        student_id VARCHAR(50) PRIMARY KEY,
+                        deleted_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                        INDEX idx_tombstone_deleted_at (deleted_at)
+                    )
+                    """,
+                    "CREATE INDEX idx_student_updated_at ON students(updated_at)"),
+            new Migration(4, "Drop indexes duplicating the UNIQUE email and username keys",
+                    "DROP INDEX idx_student_email ON students",
+                    "DROP INDEX idx_admin_username ON admins"),
+            new Migration(5, "Widen password columns for salted hashes",
+                    "ALTER TABLE students MODIFY password VARCHAR(255) NOT NULL",
+                    "ALTER TABLE admins MODIFY password VARCHAR(255) NOT NULL"),
+            // New rows get Snowflake IDs (StudentIdGenerator) with student_id as their display form;
+            // existing rows are numbered 1..n in creation order, below any generated ID
+            new Migration(6, "Make a BIGINT id the clustered key of students",
+                    "ALTER TABLE students ADD COLUMN id BIGINT NULL FIRST",
+                    """
+                    UPDATE students s
+                    JOIN (SELECT student_id, ROW_NUMBER() OVER (ORDER BY created_at, student_id) AS rn
+                          FROM students) numbered ON numbered.student_id = s.student_id
+                    SET s.id = numbered.rn
+                    WHERE s.id IS NULL
+                    """,
+                    """
+                    ALTER TABLE students
+                        DROP PRIMARY KEY,
+                        MODIFY id BIGINT NOT NULL,
+                        ADD PRIMARY KEY (id),
+                        ADD UNIQUE KEY uk_student_id (student_id)
+                    """),
+            // Values matching case-insensitively collapse onto the first spelling inserted;
+            // the default lists are only seeded into a database without students
+            new Migration(7, "Move branch and semester into reference tables",
+                    """
+                    CREATE TABLE IF NOT EXISTS branches (
+                        branch_id SMALLINT AUTO_INCREMENT PRIMARY KEY,
+                        name VARCHAR(50) NOT NULL UNIQUE
+                    )
+                    """,
+                    """
+                    CREATE TABLE IF NOT EXISTS semesters (
+                        semester_id SMALLINT AUTO_INCREMENT PRIMARY KEY,
+                        name VARCHAR(20) NOT NULL UNIQUE
+                    )
+                    """,
+                    "INSERT IGNORE INTO semesters (name) VALUES ('1'), ('2'), ('3'), ('4'), ('5'), ('6'), ('7'), ('8')",
+                    """
+                    INSERT IGNORE INTO branches (name)
+                    SELECT defaults.name FROM (
+                        SELECT 'Computer Science' AS name UNION ALL SELECT 'Information Technology'
+                        UNION ALL SELECT 'Electronics' UNION ALL SELECT 'Electrical'
+                        UNION ALL SELECT 'Mechanical' UNION ALL SELECT 'Civil'
+                    ) defaults
+                    WHERE NOT EXISTS (SELECT 1 FROM students)
+                    """,
+                    "INSERT IGNORE INTO branches (name) SELECT DISTINCT TRIM(branch) FROM students ORDER BY 1",
+                    "INSERT IGNORE INTO semesters (name) SELECT DISTINCT TRIM(semester) FROM students ORDER BY 1",
+                    "ALTER TABLE students ADD COLUMN branch_id SMALLINT NULL AFTER password, ADD COLUMN semester_id SMALLINT NULL AFTER branch_id",
+                    """
+                    UPDATE students s
+                    JOIN branches b ON b.name = TRIM(s.branch)
+                    JOIN semesters m ON m.name = TRIM(s.semester)
+                    SET s.branch_id = b.branch_id, s.semester_id = m.semester_id
+                    WHERE s.branch_id IS NULL OR s.semester_id IS NULL
+                    """,
+                    """
+                    ALTER TABLE students
+                        MODIFY branch_id SMALLINT NOT NULL,
+                        MODIFY semester_id SMALLINT NOT NULL,
+                        ADD CONSTRAINT fk_student_branch FOREIGN KEY (branch_id) REFERENCES branches (branch_id),
+                        ADD CONSTRAINT fk_student_semester FOREIGN KEY (semester_id) REFERENCES semesters (semester_id),
+                        ADD INDEX idx_student_branch_id_sem_name (branch_id, semester_id, name),
+                        ADD INDEX idx_student_hostel_branch_id (hostel, branch_id)
+                    """),
+            new Migration(8, "Drop free-text branch and semester columns",
+                    "DROP INDEX idx_student_branch_sem_name ON students",
+                    "DROP INDEX idx_student_hostel_branch ON students",
+                    "ALTER TABLE students DROP COLUMN branch, DROP COLUMN semester")
+    );
+
+    /**
+     * Brings the schema up to the latest version
+     * @return number of migrations applied
+     */
+    public static int migrate(Connection conn) throws SQLException {
+        int latest = MIGRATIONS.get(MIGRATIONS.size() - 1).version;
+        int current = currentVersion(conn);
+        if (current >= latest) {
+            System.out.println("✅ Database schema is up to date (version " + current + ")");
+            return 0;
+        }
+
+        // Serialize with other instances starting at the same time
+        if (!acquireLock(conn)) {
+            throw new SQLException("Timed out waiting for schema migration lock");
+        }
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("""
+                    CREATE TABLE IF NOT EXISTS schema_version (
+                        version INT PRIMARY KEY,
+                        description VARCHAR(200) NOT NULL,
+                        applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+                    )
+                """);
+            }
+            current = currentVersion(conn);
+
+            int applied = 0;
+            for (Migration migration : MIGRATIONS) {
+                if (migration.version > current) {
+                    apply(conn, migration);
+                    applied++;
+                }
+            }
+            return applied;
+        } finally {
+            releaseLock(conn);
+        }
+    }
+
+    /**
+     * Highest applied version, or 0 for a database that predates schema_version
+     */
+    private static int currentVersion(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MAX(version) FROM schema_version")) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } catch (SQLException e) {
+            if (e.getErrorCode() == MYSQL_TABLE_MISSING) {
+                return 0;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * MySQL DDL commits implicitly, so each statement tolerates having already been
+     * applied (by a crashed run, or by releases that created objects on every startup)
+     */
+    private static void apply(Connection conn, Migration migration) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : migration.statements) {
+                try {
+                    stmt.execute(sql);
+                } catch (SQLException e) {
+                    if (e.getErrorCode() != MYSQL_DUPLICATE_KEY_NAME && e.getErrorCode() != MYSQL_CANT_DROP_KEY
+                            && e.getErrorCode() != MYSQL_DUPLICATE_COLUMN) {
+                        throw e;
+                    }
+                    System.out.println("ℹ️ Already applied: " + e.getMessage());
+                }
+            }
+        }
+
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "INSERT INTO schema_version (version, description) VALUES (?, ?)")) {
+            pstmt.setInt(1, migration.version);
+            pstmt.setString(2, migration.description);
+            pstmt.executeUpdate();
+        }
+        System.out.println("✅ Applied schema migration " + migration.version + ": " + migration.description);
+    }
+
+    private static boolean acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            pstmt.setString(1, LOCK_NAME);
+            pstmt.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection conn) {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            pstmt.setString(1, LOCK_NAME);
+            pstmt.executeQuery().close();
+        } catch (SQLException e) {
+            System.err.println("❌ Failed to release schema migration lock: " + e.getMessage());
+        }
+    }
+}
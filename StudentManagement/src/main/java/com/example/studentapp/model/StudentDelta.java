@@ -0,0 +1,36 @@
+package com.example.studentapp.model;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Changes to the students table since a watermark
+ * Pass nextWatermark to the following delta request. When fullReloadRequired is set
+ * the watermark is older than the retained tombstones and the caller must reload everything.
+ */
+public class StudentDelta {
+    private final List<StudentSummary> changed;
+    private final List<String> deletedIds;
+    private final Timestamp nextWatermark;
+    private final boolean fullReloadRequired;
+
+    public StudentDelta(List<StudentSummary> changed, List<String> deletedIds,
+                        Timestamp nextWatermark, boolean fullReloadRequired) {
+        this.changed = changed;
+        this.deletedIds = deletedIds;
+        this.nextWatermark = nextWatermark;
+        this.fullReloadRequired = fullReloadRequired;
+    }
+
+    // Getters
+    public List<StudentSummary> getChanged() { return changed; }
+    public List<String> getDeletedIds() { return deletedIds; }
+    public Timestamp getNextWatermark() { return nextWatermark; }
+    public boolean isFullReloadRequired() { return fullReloadRequired; }
+
+    @Override
+    public String toString() {
+        return String.format("StudentDelta{changed=%d, deleted=%d, nextWatermark=%s, fullReload=%s}",
+                changed.size(), deletedIds.size(), nextWatermark, fullReloadRequired);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.studentapp.model;
+
+import java.util.Locale;
+
+/**
+ * Filter criteria for server-side student search
+ * Null or empty fields are not filtered on. Results are ordered by (name, student_id)
+ * and paged with the afterName/afterStudentId keyset cursor.
+ */
+public class StudentQuery {
+    private String branch;
+    private String semester;
+    private Boolean hostel;
+    private UserRole role;
+    private String namePrefix;
+    private String emailDomain;
+    private String afterName;
+    private String afterStudentId;
+    private int limit = 500;
+
+    public StudentQuery() {}
+
+    /**
+     * Copy of this query positioned after the given row
+     */
+    public StudentQuery after(String name, String studentId) {
+        StudentQuery next = new StudentQuery();
+        next.branch = branch;
+        next.semester = semester;
+        next.hostel = hostel;
+        next.role = role;
+        next.namePrefix = namePrefix;
+        next.emailDomain = emailDomain;
+        next.limit = limit;
+        next.afterName = name;
+        next.afterStudentId = studentId;
+        return next;
+    }
+
+    /**
+     * Checks a row against the filters (not the cursor) the way the SQL does,
+     * case-insensitively, so delta refreshes can tell whether a changed row belongs in the view
+     */
+    public boolean matches(StudentSummary student) {
+        if (!isBlank(branch) && !branch.trim().equalsIgnoreCase(student.getBranch())) {
+            return false;
+        }
+        if (!isBlank(semester) && !semester.trim().equalsIgnoreCase(student.getSemester())) {
+            return false;
+        }
+        if (hostel != null && hostel != student.isHostel()) {
+            return false;
+        }
+        if (role != null && role != student.getRole()) {
+            return false;
+        }
+        if (!isBlank(namePrefix) && !lower(student.getName()).startsWith(lower(namePrefix.trim()))) {
+            return false;
+        }
+        if (!isBlank(emailDomain)) {
+            String domain = emailDomain.trim();
+            domain = domain.startsWith("@") ? domain : "@" + domain;
+            return lower(student.getEmail()).endsWith(lower(domain));
+        }
+        return true;
+    }
+
+    /**
+     * True when no filter is set, i.e. the query lists the whole roster
+     */
+    public boolean isUnfiltered() {
+        return isBlank(branch) && isBlank(semester) && hostel == null && role == null
+                && isBlank(namePrefix) && isBlank(emailDomain);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static String lower(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    // Getters and Setters
+    public String getBranch() { return branch; }
+    public void setBranch(String branch) { this.branch = branch; }
+
+    public String getSemester() { return semester; }
+    public void setSemester(String semester) { this.semester = semester; }
+
+    public Boolean getHostel() { return hostel; }
+    public void setHostel(Boolean hostel) { this.hostel = hostel; }
+
+    public UserRole getRole() { return role; }
+    public void setRole(UserRole role) { this.role = role; }
+
+    public String getNamePrefix() { return namePrefix; }
+    public void setNamePrefix(String namePrefix) { this.namePrefix = namePrefix; }
+
+    public String getEmailDomain() { return emailDomain; }
+    public void setEmailDomain(String emailDomain) { this.emailDomain = emailDomain; }
+
+    public String getAfterName() { return afterName; }
+    public String getAfterStudentId() { return afterStudentId; }
+
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+
+    @Override
+    public String toString() {
+        return String.format("StudentQuery{branch=%s, semester=%s, hostel=%s, role=%s, namePrefix=%s, emailDomain=%s, after=%s/%s, limit=%d}",
+                branch, semester, hostel, role, namePrefix, emailDomain, afterName, afterStudentId, limit);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.studentapp.model;
+
+/**
+ * Read-only projection of a Student for list and search screens
+ * Carries only the columns shown in the admin table - never the password
+ */
+public class StudentSummary {
+    private final String studentId;
+    private final String name;
+    private final String email;
+    private final String branch;
+    private final String semester;
+    private final boolean hostel;
+    private final String phone;
+    private final UserRole role;
+
+    public StudentSummary(String studentId, String name, String email, String branch,
+                          String semester, boolean hostel, String phone, UserRole role) {
+        this.studentId = studentId;
+        this.name = name;
+        this.email = email;
+        this.branch = branch;
+        this.semester = semester;
+        this.hostel = hostel;
+        this.phone = phone;
+        this.role = role;
+    }
+
+    /**
+     * Builds the summary of a full student record
+     */
+    public static StudentSummary of(String studentId, Student student) {
+        return new StudentSummary(studentId, student.getName(), student.getEmail(), student.getBranch(),
+                student.getSemester(), student.isHostel(), student.getPhone(),
+                student.getRole() != null ? student.getRole() : UserRole.STUDENT);
+    }
+
+    // Getters
+    public String getStudentId() { return studentId; }
+    public String getName() { return name; }
+    public String getEmail() { return email; }
+    public String getBranch() { return branch; }
+    public String getSemester() { return semester; }
+    public boolean isHostel() { return hostel; }
+    public String getPhone() { return phone; }
+    public UserRole getRole() { return role; }
+
+    @Override
+    public String toString() {
+        return String.format("StudentSummary{id=%s, name=%s, email=%s, branch=%s, semester=%s, hostel=%s, phone=%s, role=%s}",
+                studentId, name, email, branch, semester, hostel, phone, role);
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.config.DatabaseConfig;
+import com.example.studentapp.database.DatabaseConnection;
+import com.example.studentapp.database.DatabaseExecutors;
+import com.example.studentapp.database.DatabaseExecutors.OperationClass;
+import com.example.studentapp.database.MetricsRegistry;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Background startup pipeline so the login window paints before the database is up
+ * The pool is created first; schema migrations and connection warm-up then run in
+ * parallel. With the in-memory store only its snapshot is loaded. Time-to-first-paint
+ * and time-to-ready are measured from begin().
+ */
+public class ApplicationStartup {
+    private static final long startNanos = System.nanoTime();
+    private static CompletableFuture<Void> ready;
+    private static volatile long firstPaintMillis = -1;
+    private static volatile long readyMillis = -1;
+
+    /**
+     * Starts the pipeline once; later calls return the same future
+     */
+    public static synchronized CompletableFuture<Void> begin() {
+        if (ready != null) {
+            return ready;
+        }
+
+        MetricsRegistry.registerGauge("startup_first_paint_ms", "Milliseconds from launch to first paint",
+                ApplicationStartup::getFirstPaintMillis);
+        MetricsRegistry.registerGauge("startup_ready_ms", "Milliseconds from launch until the database was ready",
+                ApplicationStartup::getReadyMillis);
+        MetricsRegistry.startHttpServer(DatabaseConfig.getMetricsHttpPort());
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService startup = Executors.newFixedThreadPool(3, runnable -> {
+            Thread thread = new Thread(runnable, "startup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (DatabaseConfig.isInMemoryStore()) {
+            // No pool or schema: loading the snapshot is the whole startup
+            ready = CompletableFuture.supplyAsync(() -> timed(InMemoryStudentRepository::getInstance), startup)
+                    .<Void>handle((storeMillis, error) -> {
+                        startup.shutdown();
+                        if (error != null) {
+                            System.err.println("❌ Startup failed after " + elapsedMillis() + " ms: " + error.getMessage());
+                            throw new CompletionException(error);
+                        }
+                        readyMillis = elapsedMillis();
+                        System.out.println("✅ Ready after " + readyMillis + " ms (in-memory store " + storeMillis + " ms)");
+                        return null;
+                    });
+            return ready;
+        }
+
+        CompletableFuture<Long> pool = CompletableFuture.supplyAsync(
+                () -> timed(DatabaseConnection::getDataSource), startup);
+        CompletableFuture<Long> executors = CompletableFuture.supplyAsync(
+                () -> timed(() -> DatabaseExecutors.get(OperationClass.AUTH)), startup);
+        CompletableFuture<Long> schema = pool.thenApplyAsync(
+                ignored -> timed(MySQLService::getInstance), startup);
+        CompletableFuture<Long> warmUp = pool.thenApplyAsync(
+                ignored -> timed(ApplicationStartup::warmConnections), startup);
+
+        ready = CompletableFuture.allOf(executors, schema, warmUp)
+                .whenComplete((ignored, error) -> {
+                    startup.shutdown();
+                    if (error != null) {
+                        System.err.println("❌ Startup failed after " + elapsedMillis() + " ms: " + error.getMessage());
+                        return;
+                    }
+                    readyMillis = elapsedMillis();
+                    System.out.println("✅ Ready after " + readyMillis + " ms (pool " + pool.join()
+                            + " ms, schema " + schema.join() + " ms, warm-up " + warmUp.join() + " ms)");
+                });
+        return ready;
+    }
+
+    /**
+     * Records the first paint of the first window; later calls are ignored
+     */
+    public static void markFirstPaint() {
+        if (firstPaintMillis < 0) {
+            firstPaintMillis = elapsedMillis();
+            System.out.println("✅ First paint after " + firstPaintMillis + " ms");
+        }
+    }
+
+    public static boolean isReady() {
+        return readyMillis >= 0;
+    }
+
+    /** Milliseconds from launch to the first painted window, or -1 if not painted yet */
+    public static long getFirstPaintMillis() { return firstPaintMillis; }
+
+    /** Milliseconds from launch until the database was usable, or -1 if not ready yet */
+    public static long getReadyMillis() { return readyMillis; }
+
+    /**
+     * Borrows minimumIdle connections at once so the first logins skip the TCP/TLS handshake
+     */
+    private static void warmConnections() {
+        List<Connection> connections = new ArrayList<>();
+        try {
+            for (int i = 0; i < DatabaseConfig.getPoolMinimumIdle(); i++) {
+                Connection conn = DatabaseConnection.getConnection();
+                connections.add(conn);
+                conn.isValid(2);
+            }
+        } catch (SQLException e) {
+            // Not fatal: the pool will keep trying in the background
+            System.err.println("❌ Connection warm-up incomplete: " + e.getMessage());
+        } finally {
+            for (Connection conn : connections) {
+                try {
+                    conn.close();
+                } catch (SQLException ignored) {
+                    // Returning to the pool does not fail in practice
+                }
+            }
+        }
+    }
+
+    private static long timed(Runnable step) {
+        long start = System.nanoTime();
+        step.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private static long elapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,342 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.model.StudentSummary;
+import com.example.studentapp.model.UserRole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-oriented roster for large in-heap student lists, such as the admin table
+ * Each column is a parallel array instead of one object per student with its own
+ * Strings. Name and the local part of the email are UTF-8 byte[]; IDs from
+ * StudentIdGenerator and all-digit phone numbers are kept as longs (anything else falls
+ * back to bytes); branch, semester and email domain are 16-bit codes into a per-roster
+ * dictionary holding one String per distinct value; hostel and role share one flags byte. Rows are decoded only when read, so a table
+ * showing a few dozen rows allocates for those rows alone.
+ *
+ * Not thread-safe; the dashboard only touches it on the event dispatch thread.
+ */
+public final class CompactRoster implements RosterRows {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long LEGACY_ID = -1;
+    private static final long TEXT_PHONE = -1;
+    private static final int MAX_PACKED_DIGITS = 15;
+    private static final int DIGITS_SHIFT = 56; // digit count above the value, keeping leading zeros
+    private static final int MAX_DOMAIN_CODES = 16_384; // leaves the rest of the dictionary to branches and semesters
+    private static final int HOSTEL_FLAG = 1;
+    private static final UserRole[] ROLES = UserRole.values();
+
+    private int size;
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private byte[][] legacyIds; // allocated on the first ID StudentIdGenerator cannot parse
+    private byte[][] names = new byte[INITIAL_CAPACITY][];
+    private byte[][] emailLocals = new byte[INITIAL_CAPACITY][];
+    private short[] emailDomains = new short[INITIAL_CAPACITY];
+    private long[] phones = new long[INITIAL_CAPACITY];
+    private byte[][] textPhones; // allocated on the first phone that is not all digits
+    private short[] branches = new short[INITIAL_CAPACITY];
+    private short[] semesters = new short[INITIAL_CAPACITY];
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Short> codes = new HashMap<>();
+
+    public CompactRoster() {
+        dictionary.add(null); // code 0
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public void add(StudentSummary student) {
+        insert(size, student);
+    }
+
+    public void addAll(List<StudentSummary> students) {
+        ensureCapacity(size + students.size());
+        for (StudentSummary student : students) {
+            insert(size, student);
+        }
+    }
+
+    /**
+     * Inserts a row before the given index, shifting later rows down
+     */
+    public void insert(int row, StudentSummary student) {
+        if (row < 0 || row > size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+        ensureCapacity(size + 1);
+        if (row < size) {
+            shift(row, row + 1, size - row);
+        }
+
+        long id = StudentIdGenerator.parse(student.getStudentId());
+        ids[row] = id;
+        if (id == LEGACY_ID) {
+            if (legacyIds == null) {
+                legacyIds = new byte[ids.length][];
+            }
+            legacyIds[row] = encode(student.getStudentId());
+        } else if (legacyIds != null) {
+            legacyIds[row] = null;
+        }
+        names[row] = encode(student.getName());
+        setEmail(row, student.getEmail());
+        setPhone(row, student.getPhone());
+        branches[row] = code(student.getBranch());
+        semesters[row] = code(student.getSemester());
+        UserRole role = student.getRole() != null ? student.getRole() : UserRole.STUDENT;
+        flags[row] = (byte) ((role.ordinal() << 1) | (student.isHostel() ? HOSTEL_FLAG : 0));
+        size++;
+    }
+
+    public void remove(int row) {
+        checkRow(row);
+        shift(row + 1, row, size - row - 1);
+        size--;
+        // Drop references so removed rows can be collected
+        names[size] = emailLocals[size] = null;
+        if (legacyIds != null) {
+            legacyIds[size] = null;
+        }
+        if (textPhones != null) {
+            textPhones[size] = null;
+        }
+    }
+
+    /**
+     * Removes every row; the dictionary and array capacity are kept for the next load
+     */
+    public void clear() {
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(emailLocals, 0, size, null);
+        if (legacyIds != null) {
+            Arrays.fill(legacyIds, 0, size, null);
+        }
+        if (textPhones != null) {
+            Arrays.fill(textPhones, 0, size, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * Row holding the given student, or -1; compares encoded IDs without decoding rows
+     */
+    public int indexOf(String studentId) {
+        long id = StudentIdGenerator.parse(studentId);
+        if (id != LEGACY_ID) {
+            for (int row = 0; row < size; row++) {
+                if (ids[row] == id) {
+                    return row;
+                }
+            }
+            return -1;
+        }
+        if (legacyIds == null) {
+            return -1;
+        }
+        byte[] encoded = encode(studentId);
+        for (int row = 0; row < size; row++) {
+            if (ids[row] == LEGACY_ID && Arrays.equals(legacyIds[row], encoded)) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String getStudentId(int row) {
+        checkRow(row);
+        return ids[row] != LEGACY_ID ? StudentIdGenerator.format(ids[row]) : decode(legacyIds[row]);
+    }
+
+    @Override
+    public String getName(int row) {
+        checkRow(row);
+        return decode(names[row]);
+    }
+
+    @Override
+    public String getEmail(int row) {
+        checkRow(row);
+        String local = decode(emailLocals[row]);
+        return emailDomains[row] == 0 ? local : local + '@' + dictionary.get(emailDomains[row]);
+    }
+
+    @Override
+    public String getPhone(int row) {
+        checkRow(row);
+        long phone = phones[row];
+        if (phone == TEXT_PHONE) {
+            return decode(textPhones[row]);
+        }
+        int digits = (int) (phone >>> DIGITS_SHIFT);
+        String value = Long.toString(phone & ((1L << DIGITS_SHIFT) - 1));
+        return digits > value.length() ? "0".repeat(digits - value.length()) + value : value;
+    }
+
+    @Override
+    public String getBranch(int row) {
+        checkRow(row);
+        return value(branches[row]);
+    }
+
+    @Override
+    public String getSemester(int row) {
+        checkRow(row);
+        return value(semesters[row]);
+    }
+
+    @Override
+    public boolean isHostel(int row) {
+        checkRow(row);
+        return (flags[row] & HOSTEL_FLAG) != 0;
+    }
+
+    @Override
+    public UserRole getRole(int row) {
+        checkRow(row);
+        return ROLES[flags[row] >>> 1];
+    }
+
+    /**
+     * Read-only list view; each element is decoded when it is read
+     */
+    public List<StudentSummary> asList() {
+        return new AbstractList<>() {
+            @Override
+            public StudentSummary get(int index) {
+                return CompactRoster.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = Math.max(capacity, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, grown);
+        if (legacyIds != null) {
+            legacyIds = Arrays.copyOf(legacyIds, grown);
+        }
+        names = Arrays.copyOf(names, grown);
+        emailLocals = Arrays.copyOf(emailLocals, grown);
+        emailDomains = Arrays.copyOf(emailDomains, grown);
+        phones = Arrays.copyOf(phones, grown);
+        if (textPhones != null) {
+            textPhones = Arrays.copyOf(textPhones, grown);
+        }
+        branches = Arrays.copyOf(branches, grown);
+        semesters = Arrays.copyOf(semesters, grown);
+        flags = Arrays.copyOf(flags, grown);
+    }
+
+    private void shift(int from, int to, int length) {
+        System.arraycopy(ids, from, ids, to, length);
+        if (legacyIds != null) {
+            System.arraycopy(legacyIds, from, legacyIds, to, length);
+        }
+        System.arraycopy(names, from, names, to, length);
+        System.arraycopy(emailLocals, from, emailLocals, to, length);
+        System.arraycopy(emailDomains, from, emailDomains, to, length);
+        System.arraycopy(phones, from, phones, to, length);
+        if (textPhones != null) {
+            System.arraycopy(textPhones, from, textPhones, to, length);
+        }
+        System.arraycopy(branches, from, branches, to, length);
+        System.arraycopy(semesters, from, semesters, to, length);
+        System.arraycopy(flags, from, flags, to, length);
+    }
+
+    /**
+     * Splits at the last '@' so the domain, shared by most of a roster, is stored once
+     * Once the dictionary is large, emails at new domains are kept whole instead.
+     */
+    private void setEmail(int row, String email) {
+        int at = email != null ? email.lastIndexOf('@') : -1;
+        if (at >= 0 && dictionary.size() >= MAX_DOMAIN_CODES && !codes.containsKey(email.substring(at + 1))) {
+            at = -1;
+        }
+        if (at < 0) {
+            emailLocals[row] = encode(email);
+            emailDomains[row] = 0;
+        } else {
+            emailLocals[row] = encode(email.substring(0, at));
+            emailDomains[row] = code(email.substring(at + 1));
+        }
+    }
+
+    private void setPhone(int row, String phone) {
+        if (phone != null && !phone.isEmpty() && phone.length() <= MAX_PACKED_DIGITS && isDigits(phone)) {
+            phones[row] = ((long) phone.length() << DIGITS_SHIFT) | Long.parseLong(phone);
+            if (textPhones != null) {
+                textPhones[row] = null;
+            }
+            return;
+        }
+        if (textPhones == null) {
+            textPhones = new byte[phones.length][];
+        }
+        phones[row] = TEXT_PHONE;
+        textPhones[row] = encode(phone);
+    }
+
+    private static boolean isDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private short code(String value) {
+        if (value == null) {
+            return 0;
+        }
+        Short code = codes.get(value);
+        if (code == null) {
+            if (dictionary.size() > Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct branch, semester and email domain values: " + dictionary.size());
+            }
+            code = (short) dictionary.size();
+            dictionary.add(value);
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    private String value(short code) {
+        return code == 0 ? null : dictionary.get(code);
+    }
+
+    private static byte[] encode(String value) {
+        return value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static String decode(byte[] value) {
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.studentapp.service;
+
+/**
+ * Thrown when an insert or update violates the UNIQUE constraint on students.email
+ */
+public class DuplicateEmailException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * MySQL vendor error code for a duplicate key (ER_DUP_ENTRY)
+     */
+    public static final int MYSQL_DUPLICATE_ENTRY = 1062;
+
+    private final String email;
+
+    public DuplicateEmailException(String email, Throwable cause) {
+        super("Email already exists: " + email, cause);
+        this.email = email;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Finds a DuplicateEmailException in a cause chain, e.g. behind the
+     * ExecutionException layers added by CompletableFuture and SwingWorker
+     * @return the exception or null if the failure had another cause
+     */
+    public static DuplicateEmailException findIn(Throwable throwable) {
+        for (Throwable t = throwable; t != null; t = t.getCause()) {
+            if (t instanceof DuplicateEmailException) {
+                return (DuplicateEmailException) t;
+            }
+        }
+        return null;
+    }
+}
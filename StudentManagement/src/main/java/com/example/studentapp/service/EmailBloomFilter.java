@@ -0,0 +1,137 @@
+package com.example.studentapp.service;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of normalized student emails placed in front of emailExists
+ * A "no" is definite and skips the database; a "maybe" falls through to the exact query.
+ * Deletes and email changes are not removed from the filter: that only costs
+ * false positives, never wrong answers. Bits are set atomically so writers can
+ * add emails while the filter is being loaded.
+ */
+public class EmailBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final double falsePositiveRate;
+    private volatile boolean ready;
+
+    private final AtomicLong insertions = new AtomicLong();
+    private final AtomicLong queriesSaved = new AtomicLong();
+    private final AtomicLong fallThroughs = new AtomicLong();
+    private final AtomicLong falsePositives = new AtomicLong();
+
+    /**
+     * @param expectedInsertions number of emails the filter is sized for
+     * @param falsePositiveRate target false-positive probability, e.g. 0.01
+     */
+    public EmailBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, m);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.falsePositiveRate = falsePositiveRate;
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+    }
+
+    /**
+     * Records an email as present
+     */
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        long hash = hash(normalize(email));
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+        insertions.incrementAndGet();
+    }
+
+    /**
+     * @return false if the email is definitely not present, true if it may be
+     */
+    public boolean mightContain(String email) {
+        if (email == null) {
+            return false;
+        }
+        long hash = hash(normalize(email));
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Marks the filter as fully loaded; until then every check must go to the database
+     */
+    public void markReady() {
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void recordQuerySaved() { queriesSaved.incrementAndGet(); }
+    public void recordFallThrough() { fallThroughs.incrementAndGet(); }
+    public void recordFalsePositive() { falsePositives.incrementAndGet(); }
+
+    public long getInsertions() { return insertions.get(); }
+    public long getQueriesSaved() { return queriesSaved.get(); }
+    public long getFallThroughs() { return fallThroughs.get(); }
+    public long getFalsePositives() { return falsePositives.get(); }
+    public double getFalsePositiveRate() { return falsePositiveRate; }
+    public long getBitCount() { return bitCount; }
+    public int getHashCount() { return hashCount; }
+
+    @Override
+    public String toString() {
+        return String.format("EmailBloomFilter{bits=%d, hashes=%d, insertions=%d, saved=%d, fallThroughs=%d, falsePositives=%d}",
+                bitCount, hashCount, getInsertions(), getQueriesSaved(), getFallThroughs(), getFalsePositives());
+    }
+
+    /**
+     * Emails are compared case-insensitively, matching the column collation
+     */
+    static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 64-bit FNV-1a over the characters followed by a murmur3 finalizer
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
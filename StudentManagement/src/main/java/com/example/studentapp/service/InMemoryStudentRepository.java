@@ -0,0 +1,630 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.config.DatabaseConfig;
+import com.example.studentapp.database.MetricsRegistry;
+import com.example.studentapp.model.Admin;
+import com.example.studentapp.model.Student;
+import com.example.studentapp.model.StudentDelta;
+import com.example.studentapp.model.StudentQuery;
+import com.example.studentapp.model.StudentSummary;
+import com.example.studentapp.model.UserRole;
+import com.google.gson.Gson;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StudentRepository that keeps the roster in memory as the primary store
+ * A primary-key map, a secondary email index and a (name, studentId)-ordered set for
+ * paging. Reads complete on the caller thread without an executor hop; only password
+ * hashing runs elsewhere. Writes are serialized by one lock and readers never block.
+ * The store is written to a JSON snapshot every store.snapshot.interval.seconds when it
+ * changed and on shutdown, so a crash loses at most one interval of writes.
+ * Filtered searches scan the ordered set, which suits small rosters.
+ */
+public class InMemoryStudentRepository implements StudentRepository {
+    private static final Comparator<StudentSummary> ROSTER_ORDER = Comparator
+            .comparing(StudentSummary::getName, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(StudentSummary::getStudentId);
+    private static final int SNAPSHOT_FORMAT = 1;
+
+    private static InMemoryStudentRepository instance;
+
+    /**
+     * Stored row; the Student is never mutated or handed out, callers get copies
+     */
+    private static final class Entry {
+        final Student student;
+        final StudentSummary summary;
+        final long modifiedAt;
+
+        Entry(Student student, long modifiedAt) {
+            this.student = student;
+            this.summary = StudentSummary.of(student.getStudentId(), student);
+            this.modifiedAt = modifiedAt;
+        }
+    }
+
+    /**
+     * On-disk form of the store
+     */
+    private static class Snapshot {
+        int format;
+        long savedAt;
+        List<Student> students = new ArrayList<>();
+        Map<String, Long> modifiedAt = new HashMap<>();
+        List<Admin> admins = new ArrayList<>();
+        Map<String, Long> tombstones = new HashMap<>();
+    }
+
+    private final Map<String, Entry> students = new ConcurrentHashMap<>();
+    private final Map<String, String> idsByEmail = new ConcurrentHashMap<>();
+    private final NavigableSet<StudentSummary> roster = new ConcurrentSkipListSet<>(ROSTER_ORDER);
+    private final Map<String, Long> tombstones = new ConcurrentHashMap<>();
+    private final Map<String, Admin> admins = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+    private long lastModified;
+    private volatile long changeCount;
+    private volatile long savedChangeCount;
+
+    private final Path snapshotFile;
+    private final StudentSearchIndex searchIndex = new StudentSearchIndex();
+    private final RosterAnalytics rosterAnalytics = new RosterAnalytics(this);
+    private final PasswordHasher passwordHasher = new PasswordHasher(DatabaseConfig.getPasswordHashIterations());
+    private final LoginGuard loginGuard = new LoginGuard(DatabaseConfig.getLoginRatePerSecond(),
+            DatabaseConfig.getLoginMaxFailures(), DatabaseConfig.getLoginFailureWindowSeconds(),
+            DatabaseConfig.getLoginNegativeCacheSeconds());
+    private final ReferenceData referenceData = new ReferenceData(false);
+    private final StudentBulkImporter bulkImporter = new StudentBulkImporter(this, passwordHasher);
+    private final StudentExporter exporter = new StudentExporter(this);
+
+    /**
+     * @param snapshotFile JSON snapshot to load at start and save to, or null for a purely volatile store
+     * @param snapshotIntervalSeconds how often changes are saved; 0 or below saves only on demand
+     */
+    public InMemoryStudentRepository(Path snapshotFile, long snapshotIntervalSeconds) {
+        this.snapshotFile = snapshotFile;
+        referenceData.addDefaults();
+        loadSnapshot();
+        searchIndex.markReady();
+        createDefaultAdmin();
+
+        if (snapshotFile != null && snapshotIntervalSeconds > 0) {
+            ScheduledExecutorService snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "student-store-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            snapshotter.scheduleWithFixedDelay(this::saveSnapshotIfChanged,
+                    snapshotIntervalSeconds, snapshotIntervalSeconds, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Gets the store configured in database.properties, saving a final snapshot at exit
+     */
+    public static synchronized InMemoryStudentRepository getInstance() {
+        if (instance == null) {
+            instance = new InMemoryStudentRepository(Paths.get(DatabaseConfig.getSnapshotFile()),
+                    DatabaseConfig.getSnapshotIntervalSeconds());
+            instance.registerGauges();
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::saveSnapshotIfChanged, "student-store-shutdown"));
+        }
+        return instance;
+    }
+
+    private void registerGauges() {
+        MetricsRegistry.registerGauge("memory_store_students", "Students in the in-memory store", students::size);
+        MetricsRegistry.registerGauge("memory_store_unsaved_changes", "Writes not yet in the snapshot file",
+                () -> changeCount - savedChangeCount);
+        MetricsRegistry.registerGauge("search_index_documents", "Students in the type-ahead index", searchIndex::size);
+        rosterAnalytics.registerGauges();
+        MetricsRegistry.registerGauge("login_throttled_global", "Logins rejected by the global rate limit", loginGuard::getThrottledGlobal);
+        MetricsRegistry.registerGauge("login_throttled_account", "Logins rejected by per-account lockout", loginGuard::getThrottledAccount);
+        MetricsRegistry.registerGauge("login_negative_cache_hits", "Logins answered by the negative cache", loginGuard::getNegativeHits);
+        MetricsRegistry.registerGauge("password_hash_queue_depth", "Password hashing tasks waiting",
+                () -> passwordHasher.getExecutor().getQueueDepth());
+        MetricsRegistry.registerGauge("password_hash_active", "Password hashing threads busy",
+                () -> passwordHasher.getExecutor().getActiveCount());
+    }
+
+    @Override
+    public CompletableFuture<Admin> authenticateAdmin(String username, String password) {
+        String account = "admin:" + username;
+        try {
+            loginGuard.checkAllowed(account);
+        } catch (LoginThrottledException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (loginGuard.isKnownFailure(account, password)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Admin admin = username == null ? null : admins.get(key(username));
+        return MetricsRegistry.track("authenticateAdmin", CompletableFuture.supplyAsync(() -> {
+            if (admin == null || !passwordHasher.verify(password, admin.getPassword())) {
+                loginGuard.recordFailure(account, password);
+                System.out.println("❌ Admin authentication failed for: " + username);
+                return null;
+            }
+
+            loginGuard.recordSuccess(account);
+            if (passwordHasher.needsRehash(admin.getPassword())) {
+                String newHash = passwordHasher.hash(password);
+                synchronized (writeLock) {
+                    admins.computeIfPresent(key(username), (k, current) -> current != admin ? current
+                            : new Admin(admin.getAdminId(), admin.getUsername(), newHash, admin.getEmail(), admin.getName()));
+                    changeCount++;
+                }
+            }
+            System.out.println("✅ Admin authentication successful for: " + username);
+            return new Admin(admin.getAdminId(), admin.getUsername(), admin.getPassword(), admin.getEmail(), admin.getName());
+        }, passwordHasher.getExecutor()));
+    }
+
+    /**
+     * Authenticates a student; the email lookup is a map read, the hash check runs on the hasher's executor
+     */
+    @Override
+    public CompletableFuture<Student> authenticateStudent(String email, String password) {
+        try {
+            loginGuard.checkAllowed(email);
+        } catch (LoginThrottledException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (loginGuard.isKnownFailure(email, password)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Entry entry = findByEmail(email);
+        if (entry == null) {
+            loginGuard.recordFailure(email, password);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return MetricsRegistry.track("authenticateStudent", CompletableFuture.supplyAsync(() -> {
+            Student stored = entry.student;
+            if (!passwordHasher.verify(password, stored.getPassword())) {
+                loginGuard.recordFailure(email, password);
+                System.out.println("❌ Student authentication failed for: " + email);
+                return null;
+            }
+
+            loginGuard.recordSuccess(email);
+            if (passwordHasher.needsRehash(stored.getPassword())) {
+                upgradePasswordHash(entry, passwordHasher.hash(password));
+            }
+            System.out.println("✅ Student authentication successful for: " + stored.getEmail());
+            return copy(stored);
+        }, passwordHasher.getExecutor()));
+    }
+
+    /**
+     * Replaces an outdated hash unless the row changed meanwhile; keeps modifiedAt so the
+     * upgrade does not show up in delta refreshes
+     */
+    private void upgradePasswordHash(Entry entry, String newHash) {
+        synchronized (writeLock) {
+            String studentId = entry.student.getStudentId();
+            if (students.get(studentId) == entry) {
+                Student upgraded = copy(entry.student);
+                upgraded.setPassword(newHash);
+                students.put(studentId, new Entry(upgraded, entry.modifiedAt));
+                changeCount++;
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<List<Student>> getAllStudents() {
+        List<Student> result = new ArrayList<>(students.size());
+        for (StudentSummary summary : roster) {
+            Entry entry = students.get(summary.getStudentId());
+            if (entry != null) {
+                result.add(copy(entry.student));
+            }
+        }
+        return MetricsRegistry.track("getAllStudents", CompletableFuture.completedFuture(result));
+    }
+
+    @Override
+    public CompletableFuture<List<StudentSummary>> getStudentsPage(String afterName, String afterStudentId, int limit) {
+        StudentQuery query = new StudentQuery();
+        query.setLimit(limit);
+        return searchStudents(query.after(afterName, afterStudentId));
+    }
+
+    /**
+     * Walks the ordered set from the cursor, applying the filters until the page is full
+     */
+    @Override
+    public CompletableFuture<List<StudentSummary>> searchStudents(StudentQuery query) {
+        Collection<StudentSummary> from = roster;
+        if (query.getAfterName() != null && query.getAfterStudentId() != null) {
+            from = roster.tailSet(new StudentSummary(query.getAfterStudentId(), query.getAfterName(),
+                    null, null, null, false, null, null), false);
+        }
+
+        List<StudentSummary> result = new ArrayList<>(Math.min(query.getLimit(), 1000));
+        for (StudentSummary summary : from) {
+            if (result.size() >= query.getLimit()) {
+                break;
+            }
+            if (query.matches(summary)) {
+                result.add(summary);
+            }
+        }
+        return MetricsRegistry.track("searchStudents", CompletableFuture.completedFuture(result));
+    }
+
+    /**
+     * Same contract as the SQL version: inclusive watermark, full reload once it predates
+     * the retained tombstones. The next watermark is taken and the scan done under the
+     * write lock, so a write either shows up in this delta or gets a later modifiedAt.
+     */
+    @Override
+    public CompletableFuture<StudentDelta> getStudentsModifiedSince(Timestamp watermark) {
+        List<StudentSummary> changed = new ArrayList<>();
+        List<String> deletedIds = new ArrayList<>();
+        Timestamp nextWatermark;
+        boolean fullReload;
+
+        synchronized (writeLock) {
+            long now = nextModifiedAt();
+            nextWatermark = new Timestamp(now);
+            fullReload = watermark != null && watermark.getTime() < now - retentionMillis();
+            if (watermark != null && !fullReload) {
+                long since = watermark.getTime();
+                for (Entry entry : students.values()) {
+                    if (entry.modifiedAt >= since) {
+                        changed.add(entry.summary);
+                    }
+                }
+                tombstones.forEach((studentId, deletedAt) -> {
+                    if (deletedAt >= since) {
+                        deletedIds.add(studentId);
+                    }
+                });
+            }
+        }
+        return MetricsRegistry.track("getStudentsModifiedSince",
+                CompletableFuture.completedFuture(new StudentDelta(changed, deletedIds, nextWatermark, fullReload)));
+    }
+
+    @Override
+    public CompletableFuture<Student> getStudentById(String studentId) {
+        Entry entry = studentId == null ? null : students.get(studentId);
+        return MetricsRegistry.track("getStudentById",
+                CompletableFuture.completedFuture(entry == null ? null : copy(entry.student)));
+    }
+
+    @Override
+    public CompletableFuture<String> addStudent(Student student) {
+        return MetricsRegistry.track("addStudent", CompletableFuture.supplyAsync(
+                () -> passwordHasher.hash(student.getPassword()), passwordHasher.getExecutor()).thenApply(passwordHash -> {
+            Student stored = copy(student);
+            stored.setPassword(passwordHash);
+            String studentId = insert(stored);
+            loginGuard.invalidate(student.getEmail());
+            student.setStudentId(studentId);
+            return studentId;
+        }));
+    }
+
+    /**
+     * Inserts a student whose password is already hashed and assigns its ID
+     * @throws DuplicateEmailException if the email is taken
+     */
+    String insert(Student stored) {
+        if (stored.getRole() == null) {
+            stored.setRole(UserRole.STUDENT);
+        }
+        synchronized (writeLock) {
+            if (idsByEmail.containsKey(key(stored.getEmail()))) {
+                throw new DuplicateEmailException(stored.getEmail(), null);
+            }
+            String studentId = StudentIdGenerator.getInstance().nextStudentId();
+            stored.setStudentId(studentId);
+            canonicalize(stored);
+            put(null, new Entry(stored, nextModifiedAt()));
+            tombstones.remove(studentId);
+            return studentId;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> updateStudent(String studentId, Student student) {
+        return MetricsRegistry.track("updateStudent", CompletableFuture.supplyAsync(() -> isBlank(student.getPassword()) ? null
+                        : passwordHasher.hash(student.getPassword()),
+                passwordHasher.getExecutor()).thenApply(passwordHash -> {
+            synchronized (writeLock) {
+                Entry current = students.get(studentId);
+                if (current == null) {
+                    throw new RuntimeException("Student not found with ID: " + studentId);
+                }
+                String owner = idsByEmail.get(key(student.getEmail()));
+                if (owner != null && !owner.equals(studentId)) {
+                    throw new DuplicateEmailException(student.getEmail(), null);
+                }
+
+                Student stored = copy(student);
+                stored.setStudentId(studentId);
+                stored.setPassword(passwordHash != null ? passwordHash : current.student.getPassword());
+                if (stored.getRole() == null) {
+                    stored.setRole(UserRole.STUDENT);
+                }
+                canonicalize(stored);
+                put(current, new Entry(stored, nextModifiedAt()));
+            }
+            loginGuard.invalidate(student.getEmail());
+            return null;
+        }));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteStudent(String studentId) {
+        synchronized (writeLock) {
+            Entry current = students.remove(studentId);
+            if (current == null) {
+                return MetricsRegistry.track("deleteStudent", CompletableFuture.failedFuture(
+                        new RuntimeException("Student not found with ID: " + studentId)));
+            }
+            idsByEmail.remove(key(current.student.getEmail()), studentId);
+            roster.remove(current.summary);
+            searchIndex.remove(studentId);
+            tombstones.put(studentId, nextModifiedAt());
+            changeCount++;
+        }
+        return MetricsRegistry.track("deleteStudent", CompletableFuture.completedFuture(null));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> emailExists(String email, String excludeStudentId) {
+        String owner = email == null ? null : idsByEmail.get(key(email));
+        return CompletableFuture.completedFuture(owner != null && !owner.equals(excludeStudentId));
+    }
+
+    ReferenceData getReferenceData() {
+        return referenceData;
+    }
+
+    @Override
+    public CompletableFuture<StudentBulkImporter.ImportResult> importStudents(
+            List<File> files, StudentBulkImporter.ProgressListener listener) {
+        return bulkImporter.importFiles(files, listener);
+    }
+
+    @Override
+    public CompletableFuture<Long> exportStudents(File file, StudentExporter.Format format) {
+        return exporter.exportToFile(file, format);
+    }
+
+    @Override
+    public void createDefaultAdmin() {
+        synchronized (writeLock) {
+            if (!admins.containsKey("admin")) {
+                admins.put("admin", new Admin("ADM_" + System.currentTimeMillis(), "admin",
+                        passwordHasher.hash("admin123"), "admin@school.com", "System Administrator"));
+                changeCount++;
+                System.out.println("✅ Default admin account created");
+            }
+        }
+    }
+
+    @Override
+    public StudentSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getReferenceValues(ReferenceData.Kind kind) {
+        return CompletableFuture.completedFuture(referenceData.names(kind));
+    }
+
+    @Override
+    public RosterAnalytics getRosterAnalytics() {
+        return rosterAnalytics;
+    }
+
+    public PasswordHasher getPasswordHasher() {
+        return passwordHasher;
+    }
+
+    public LoginGuard getLoginGuard() {
+        return loginGuard;
+    }
+
+    public int size() {
+        return students.size();
+    }
+
+    /**
+     * Live view of all summaries in (name, studentId) order, for scans by the exporter and analytics
+     */
+    Collection<StudentSummary> summaries() {
+        return roster;
+    }
+
+    /**
+     * Writes the snapshot file if anything changed since the last one
+     */
+    public void saveSnapshotIfChanged() {
+        if (snapshotFile != null && changeCount != savedChangeCount) {
+            saveSnapshot();
+        }
+    }
+
+    /**
+     * Writes the whole store to the snapshot file
+     * The state is copied under the write lock, then written to a temporary file that
+     * replaces the previous snapshot atomically, so a crash mid-write keeps the old one.
+     */
+    public synchronized void saveSnapshot() {
+        if (snapshotFile == null) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Snapshot snapshot = new Snapshot();
+        long version;
+        synchronized (writeLock) {
+            version = changeCount;
+            snapshot.format = SNAPSHOT_FORMAT;
+            snapshot.savedAt = start;
+            for (Entry entry : students.values()) {
+                snapshot.students.add(entry.student);
+                snapshot.modifiedAt.put(entry.student.getStudentId(), entry.modifiedAt);
+            }
+            snapshot.admins.addAll(admins.values());
+            snapshot.tombstones.putAll(tombstones);
+        }
+
+        try {
+            Path directory = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            // Password hashes and contact details: keep the file private to this OS user where the file system allows
+            String prefix = snapshotFile.getFileName().toString();
+            Path temp = FileSystems.getDefault().supportedFileAttributeViews().contains("posix")
+                    ? Files.createTempFile(directory, prefix, ".tmp",
+                            PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
+                    : Files.createTempFile(directory, prefix, ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                new Gson().toJson(snapshot, writer);
+            }
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            savedChangeCount = version;
+            System.out.println("✅ Saved " + snapshot.students.size() + " students to " + snapshotFile
+                    + " in " + (System.currentTimeMillis() - start) + " ms");
+        } catch (IOException e) {
+            // Kept in memory; the next interval tries again
+            System.err.println("❌ Failed to save student snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Restores the store from the snapshot file, if there is one
+     */
+    private void loadSnapshot() {
+        if (snapshotFile == null || !Files.exists(snapshotFile)) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try (Reader reader = Files.newBufferedReader(snapshotFile, StandardCharsets.UTF_8)) {
+            Snapshot snapshot = new Gson().fromJson(reader, Snapshot.class);
+            if (snapshot == null || snapshot.format != SNAPSHOT_FORMAT) {
+                throw new IOException("Unsupported snapshot format");
+            }
+
+            long cutoff = System.currentTimeMillis() - retentionMillis();
+            synchronized (writeLock) {
+                for (Student student : snapshot.students) {
+                    Long modifiedAt = snapshot.modifiedAt.get(student.getStudentId());
+                    canonicalize(student);
+                    put(null, new Entry(student, modifiedAt != null ? modifiedAt : snapshot.savedAt));
+                }
+                for (Admin admin : snapshot.admins) {
+                    admins.put(key(admin.getUsername()), admin);
+                }
+                snapshot.tombstones.forEach((studentId, deletedAt) -> {
+                    if (deletedAt >= cutoff) {
+                        tombstones.put(studentId, deletedAt);
+                    }
+                });
+                lastModified = Math.max(lastModified, snapshot.savedAt);
+                changeCount = 0;
+                savedChangeCount = 0;
+            }
+            System.out.println("✅ Loaded " + students.size() + " students from " + snapshotFile
+                    + " in " + (System.currentTimeMillis() - start) + " ms");
+        } catch (IOException | RuntimeException e) {
+            // Refuse to start empty and overwrite the file on the next save
+            throw new RuntimeException("Failed to load student snapshot " + snapshotFile + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Replaces (or with current == null, adds) an entry in every index; caller holds the write lock
+     */
+    private void put(Entry current, Entry next) {
+        String studentId = next.student.getStudentId();
+        if (current != null) {
+            roster.remove(current.summary);
+            idsByEmail.remove(key(current.student.getEmail()), studentId);
+        }
+        students.put(studentId, next);
+        idsByEmail.put(key(next.student.getEmail()), studentId);
+        roster.add(next.summary);
+        searchIndex.put(next.summary);
+        changeCount++;
+    }
+
+    /**
+     * Replaces branch and semester with their first-seen spellings, so values are
+     * consistent as they are with the MySQL reference tables
+     */
+    private void canonicalize(Student student) {
+        if (!isBlank(student.getBranch())) {
+            student.setBranch(referenceData.canonical(ReferenceData.Kind.BRANCH, student.getBranch()));
+        }
+        if (!isBlank(student.getSemester())) {
+            student.setSemester(referenceData.canonical(ReferenceData.Kind.SEMESTER, student.getSemester()));
+        }
+    }
+
+    private Entry findByEmail(String email) {
+        String studentId = email == null ? null : idsByEmail.get(key(email));
+        return studentId == null ? null : students.get(studentId);
+    }
+
+    /**
+     * Monotonic modification time in milliseconds; caller holds the write lock
+     */
+    private long nextModifiedAt() {
+        lastModified = Math.max(lastModified, System.currentTimeMillis());
+        return lastModified;
+    }
+
+    private static long retentionMillis() {
+        return TimeUnit.DAYS.toMillis(DatabaseConfig.getTombstoneRetentionDays());
+    }
+
+    /**
+     * Emails and usernames compare case-insensitively, like the MySQL UNIQUE keys
+     */
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static Student copy(Student student) {
+        return new Student(student.getStudentId(), student.getName(), student.getEmail(), student.getPassword(),
+                student.getBranch(), student.getSemester(), student.isHostel(), student.getPhone(), student.getRole());
+    }
+}
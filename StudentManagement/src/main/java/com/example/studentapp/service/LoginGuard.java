@@ -0,0 +1,182 @@
+package com.example.studentapp.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Admission control for logins
+ * A global token bucket caps the login rate, a per-account failure window locks out
+ * password guessing, and a short-lived negative cache answers repeats of a recently
+ * failed (account, password) pair without touching the database or the hasher.
+ * Passwords are only kept as SHA-256 digests, never in plaintext.
+ */
+public class LoginGuard {
+    private static final int MAX_TRACKED_ENTRIES = 100_000;
+
+    private final long globalPermitsPerSecond;
+    private final int maxFailures;
+    private final long failureWindowNanos;
+    private final long negativeTtlNanos;
+
+    private final Object bucketLock = new Object();
+    private double tokens;
+    private long lastRefillNanos = System.nanoTime();
+
+    private final Map<String, FailureWindow> failures = new ConcurrentHashMap<>();
+    // account -> password digest -> expiry, so an account's entries are dropped in one step
+    private final Map<String, Map<String, Long>> negativeCache = new ConcurrentHashMap<>();
+
+    private final AtomicLong throttledGlobal = new AtomicLong();
+    private final AtomicLong throttledAccount = new AtomicLong();
+    private final AtomicLong negativeHits = new AtomicLong();
+
+    private static class FailureWindow {
+        int count;
+        long startedAt;
+    }
+
+    /**
+     * @param globalPermitsPerSecond login attempts admitted per second across all accounts (also the burst size)
+     * @param maxFailures failed attempts allowed per account within the window
+     * @param failureWindowSeconds length of the per-account failure window
+     * @param negativeTtlSeconds how long a failed (account, password) pair is remembered
+     */
+    public LoginGuard(long globalPermitsPerSecond, int maxFailures, long failureWindowSeconds, long negativeTtlSeconds) {
+        this.globalPermitsPerSecond = globalPermitsPerSecond;
+        this.maxFailures = maxFailures;
+        this.failureWindowNanos = failureWindowSeconds * 1_000_000_000L;
+        this.negativeTtlNanos = negativeTtlSeconds * 1_000_000_000L;
+        this.tokens = globalPermitsPerSecond;
+    }
+
+    /**
+     * Admits an attempt or throws LoginThrottledException
+     */
+    public void checkAllowed(String account) {
+        String key = normalize(account);
+        long now = System.nanoTime();
+
+        FailureWindow window = failures.get(key);
+        if (window != null) {
+            synchronized (window) {
+                long remaining = window.startedAt + failureWindowNanos - now;
+                if (window.count >= maxFailures && remaining > 0) {
+                    throttledAccount.incrementAndGet();
+                    throw new LoginThrottledException("Too many failed login attempts for this account",
+                            Math.max(1, remaining / 1_000_000_000L));
+                }
+            }
+        }
+
+        synchronized (bucketLock) {
+            tokens = Math.min(globalPermitsPerSecond,
+                    tokens + (now - lastRefillNanos) * globalPermitsPerSecond / 1_000_000_000.0);
+            lastRefillNanos = now;
+            if (tokens < 1) {
+                throttledGlobal.incrementAndGet();
+                throw new LoginThrottledException("Login service is busy", 1);
+            }
+            tokens--;
+        }
+    }
+
+    /**
+     * True if this exact pair failed recently; counts as another failure
+     */
+    public boolean isKnownFailure(String account, String password) {
+        String key = normalize(account);
+        Map<String, Long> passwords = negativeCache.get(key);
+        if (passwords == null) {
+            return false;
+        }
+        String digest = digest(account, password);
+        Long expiresAt = passwords.get(digest);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt - System.nanoTime() < 0) {
+            passwords.remove(digest, expiresAt);
+            return false;
+        }
+        negativeHits.incrementAndGet();
+        countFailure(key);
+        return true;
+    }
+
+    public void recordFailure(String account, String password) {
+        String key = normalize(account);
+        countFailure(key);
+        if (negativeCache.size() >= MAX_TRACKED_ENTRIES) {
+            purgeExpired();
+        }
+        negativeCache.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                .put(digest(account, password), System.nanoTime() + negativeTtlNanos);
+    }
+
+    public void recordSuccess(String account) {
+        failures.remove(normalize(account));
+    }
+
+    /**
+     * Forgets cached failures for an account whose password or existence just changed
+     */
+    public void invalidate(String account) {
+        negativeCache.remove(normalize(account));
+    }
+
+    public long getThrottledGlobal() { return throttledGlobal.get(); }
+    public long getThrottledAccount() { return throttledAccount.get(); }
+    public long getNegativeHits() { return negativeHits.get(); }
+
+    @Override
+    public String toString() {
+        return String.format("LoginGuard{throttledGlobal=%d, throttledAccount=%d, negativeHits=%d, tracked=%d}",
+                getThrottledGlobal(), getThrottledAccount(), getNegativeHits(), failures.size());
+    }
+
+    private void countFailure(String key) {
+        if (failures.size() >= MAX_TRACKED_ENTRIES) {
+            purgeExpired();
+        }
+        FailureWindow window = failures.computeIfAbsent(key, k -> new FailureWindow());
+        synchronized (window) {
+            long now = System.nanoTime();
+            if (window.count == 0 || now - window.startedAt > failureWindowNanos) {
+                window.count = 0;
+                window.startedAt = now;
+            }
+            window.count++;
+        }
+    }
+
+    private void purgeExpired() {
+        long now = System.nanoTime();
+        negativeCache.values().removeIf(passwords -> {
+            passwords.values().removeIf(expiresAt -> expiresAt - now < 0);
+            return passwords.isEmpty();
+        });
+        failures.values().removeIf(window -> now - window.startedAt > failureWindowNanos);
+    }
+
+    private static String normalize(String account) {
+        return account == null ? "" : account.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String digest(String account, String password) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(normalize(account).getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) 0);
+            sha256.update((password == null ? "" : password).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(sha256.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
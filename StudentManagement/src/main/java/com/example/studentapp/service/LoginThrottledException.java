@@ -0,0 +1,19 @@
+package com.example.studentapp.service;
+
+/**
+ * Thrown when a login is rejected by the per-account or global rate limit
+ */
+public class LoginThrottledException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(String message, long retryAfterSeconds) {
+        super(message + ", please try again in " + retryAfterSeconds + " s");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,17 +1,28 @@
 // [file name]: MySQLService.java
 package com.example.studentapp.service;
 
+import com.example.studentapp.config.DatabaseConfig;
 import com.example.studentapp.database.DatabaseConnection;
+import com.example.studentapp.database.DatabaseExecutors;
+import com.example.studentapp.database.DatabaseExecutors.OperationClass;
+import com.example.studentapp.database.EnumDecoder;
+import com.example.studentapp.database.MetricsRegistry;
+import com.example.studentapp.database.RowMapper;
+import com.example.studentapp.database.SchemaMigrator;
 import com.example.studentapp.model.Student;
+import com.example.studentapp.model.StudentQuery;
+import com.example.studentapp.model.StudentSummary;
 import com.example.studentapp.model.Admin;
+import com.example.studentapp.model.StudentDelta;
 import com.example.studentapp.model.UserRole;
+import com.example.studentapp.service.ReferenceData.Kind;
+import java.io.File;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 
-import javax.swing.*;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,16 +30,69 @@ import java.util.concurrent.CompletableFuture;
 
 /**
  * MySQL service class to replace FirebaseService
- * Handles all database operations for students and admins
+ * Handles all database operations for students and admins (the JDBC StudentRepository)
  */
-public class MySQLService {
+public class MySQLService implements StudentRepository {
+    /**
+     * Explicit column list for list/search screens (no password or timestamps)
+     */
+    private static final String SUMMARY_COLUMNS = "student_id, name, email, branch_id, semester_id, hostel, phone, role";
+
+    private static final EnumDecoder<UserRole> ROLE_DECODER = new EnumDecoder<>(UserRole.class, UserRole.STUDENT);
+
+    /**
+     * Branch and semester dictionaries, loaded at startup
+     */
+    static final ReferenceData REFERENCE_DATA = new ReferenceData(true);
+
+    /**
+     * Row mappers; columns are resolved by label once per query shape, then read by index
+     */
+    static final RowMapper<Student> STUDENT_MAPPER = RowMapper.of((rs, c) -> new Student(
+            rs.getString(c[0]), rs.getString(c[1]), rs.getString(c[2]), rs.getString(c[3]),
+            REFERENCE_DATA.name(Kind.BRANCH, rs.getInt(c[4])), REFERENCE_DATA.name(Kind.SEMESTER, rs.getInt(c[5])),
+            rs.getBoolean(c[6]), rs.getString(c[7]), ROLE_DECODER.decode(rs.getString(c[8]))),
+            "student_id", "name", "email", "password", "branch_id", "semester_id", "hostel", "phone", "role");
+
+    private static final RowMapper<StudentSummary> SUMMARY_MAPPER = RowMapper.of((rs, c) -> new StudentSummary(
+            rs.getString(c[0]), rs.getString(c[1]), rs.getString(c[2]),
+            REFERENCE_DATA.name(Kind.BRANCH, rs.getInt(c[3])), REFERENCE_DATA.name(Kind.SEMESTER, rs.getInt(c[4])),
+            rs.getBoolean(c[5]), rs.getString(c[6]), ROLE_DECODER.decode(rs.getString(c[7]))),
+            "student_id", "name", "email", "branch_id", "semester_id", "hostel", "phone", "role");
+
+    private static final RowMapper<Admin> ADMIN_MAPPER = RowMapper.of((rs, c) -> new Admin(
+            rs.getString(c[0]), rs.getString(c[1]), rs.getString(c[2]), rs.getString(c[3]), rs.getString(c[4])),
+            "admin_id", "username", "password", "email", "name");
+
     private static MySQLService instance;
+    private final StudentCache studentCache =
+            new StudentCache(DatabaseConfig.getStudentCacheSize(), DatabaseConfig.getStudentCacheTtlSeconds());
+    private final EmailBloomFilter emailFilter = new EmailBloomFilter(
+            DatabaseConfig.getEmailFilterExpectedInsertions(), DatabaseConfig.getEmailFilterFalsePositiveRate());
+    private final StudentSearchIndex searchIndex = new StudentSearchIndex();
+    private final RosterAnalytics rosterAnalytics = new RosterAnalytics(REFERENCE_DATA);
+    private final PasswordHasher passwordHasher = new PasswordHasher(DatabaseConfig.getPasswordHashIterations());
+    private final StudentBulkImporter bulkImporter =
+            new StudentBulkImporter(emailFilter, searchIndex, passwordHasher, REFERENCE_DATA);
+    private final StudentExporter exporter = new StudentExporter(REFERENCE_DATA);
+    private final LoginGuard loginGuard = new LoginGuard(DatabaseConfig.getLoginRatePerSecond(),
+            DatabaseConfig.getLoginMaxFailures(), DatabaseConfig.getLoginFailureWindowSeconds(),
+            DatabaseConfig.getLoginNegativeCacheSeconds());
+    private final WriteBehindQueue writeBehind = DatabaseConfig.isWriteBehindEnabled()
+            ? new WriteBehindQueue(DatabaseConfig.getWriteBehindWindowMillis(),
+                    DatabaseConfig.getWriteBehindMaxPending(), REFERENCE_DATA, this::afterStudentUpdated)
+            : null;
 
     /**
      * Private constructor for Singleton pattern
      */
     private MySQLService() {
+        registerGauges();
+        if (writeBehind != null) {
+            Runtime.getRuntime().addShutdownHook(new Thread(writeBehind::close, "db-write-behind-shutdown"));
+        }
         initializeDatabase();
+        CompletableFuture.runAsync(this::loadRosterIndexes, DatabaseExecutors.get(OperationClass.BULK));
     }
 
     /**
@@ -42,162 +106,216 @@ public class MySQLService {
     }
 
     /**
-     * Initializes database tables if they don't exist
+     * Exposes the in-memory components to the metrics registry
      */
-    private void initializeDatabase() {
-        String createStudentsTable = """
-            CREATE TABLE IF NOT EXISTS students (
-                student_id VARCHAR(50) PRIMARY KEY,
-                name VARCHAR(100) NOT NULL,
-                email VARCHAR(100) UNIQUE NOT NULL,
-                password VARCHAR(100) NOT NULL,
-                branch VARCHAR(50) NOT NULL,
-                semester VARCHAR(20) NOT NULL,
-                hostel BOOLEAN DEFAULT FALSE,
-                phone VARCHAR(15),
-                role VARCHAR(20) DEFAULT 'STUDENT',
-                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
-            )
-        """;
-
-        String createAdminsTable = """
-            CREATE TABLE IF NOT EXISTS admins (
-                admin_id VARCHAR(50) PRIMARY KEY,
-                username VARCHAR(50) UNIQUE NOT NULL,
-                password VARCHAR(100) NOT NULL,
-                email VARCHAR(100),
-                name VARCHAR(100) NOT NULL,
-                created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
-            )
-        """;
+    private void registerGauges() {
+        MetricsRegistry.registerGauge("student_cache_hits", "Student cache hits", studentCache::getHits);
+        MetricsRegistry.registerGauge("student_cache_misses", "Student cache misses", studentCache::getMisses);
+        MetricsRegistry.registerGauge("student_cache_evictions", "Student cache evictions", studentCache::getEvictions);
+        MetricsRegistry.registerGauge("email_filter_queries_saved", "Email checks answered by the Bloom filter", emailFilter::getQueriesSaved);
+        MetricsRegistry.registerGauge("email_filter_false_positives", "Bloom filter false positives", emailFilter::getFalsePositives);
+        MetricsRegistry.registerGauge("search_index_documents", "Students in the type-ahead index", searchIndex::size);
+        rosterAnalytics.registerGauges();
+        MetricsRegistry.registerGauge("login_throttled_global", "Logins rejected by the global rate limit", loginGuard::getThrottledGlobal);
+        MetricsRegistry.registerGauge("login_throttled_account", "Logins rejected by per-account lockout", loginGuard::getThrottledAccount);
+        MetricsRegistry.registerGauge("login_negative_cache_hits", "Logins answered by the negative cache", loginGuard::getNegativeHits);
+        MetricsRegistry.registerGauge("password_hash_queue_depth", "Password hashing tasks waiting",
+                () -> passwordHasher.getExecutor().getQueueDepth());
+        MetricsRegistry.registerGauge("password_hash_active", "Password hashing threads busy",
+                () -> passwordHasher.getExecutor().getActiveCount());
+        if (writeBehind != null) {
+            MetricsRegistry.registerGauge("write_behind_pending", "Student updates waiting to be flushed", writeBehind::getPendingRows);
+            MetricsRegistry.registerGauge("write_behind_coalesced", "Updates merged into a queued update", writeBehind::getCoalesced);
+            MetricsRegistry.registerGauge("write_behind_commits_saved", "Commits avoided by write-behind batching", writeBehind::getCommitsSaved);
+            MetricsRegistry.registerGauge("write_behind_rejected", "Updates rejected by a full write-behind queue", writeBehind::getRejected);
+        }
+    }
 
+    /**
+     * Applies pending schema migrations and startup housekeeping
+     */
+    private void initializeDatabase() {
         try (Connection conn = DatabaseConnection.getConnection();
              Statement stmt = conn.createStatement()) {
 
-            // Create tables
-            stmt.execute(createStudentsTable);
-            stmt.execute(createAdminsTable);
-
-            System.out.println("✅ Database tables initialized successfully");
+            SchemaMigrator.migrate(conn);
+            REFERENCE_DATA.load();
 
-            // Create indexes (ignore errors if they already exist)
-            createIndexIfNotExists(conn, "idx_student_email", "CREATE INDEX idx_student_email ON students(email)");
-            createIndexIfNotExists(conn, "idx_admin_username", "CREATE INDEX idx_admin_username ON admins(username)");
+            // Tombstones only need to outlive the oldest watermark a client may hold
+            stmt.executeUpdate("DELETE FROM student_tombstones WHERE deleted_at < NOW() - INTERVAL "
+                    + DatabaseConfig.getTombstoneRetentionDays() + " DAY");
 
             // Create default admin
             createDefaultAdmin();
 
         } catch (SQLException e) {
+            // Runs on a startup thread; the login window reports the failure
             System.err.println("❌ Failed to initialize database: " + e.getMessage());
-            JOptionPane.showMessageDialog(null,
-                    "Database initialization failed: " + e.getMessage(),
-                    "Database Error", JOptionPane.ERROR_MESSAGE);
-            throw new RuntimeException("Database initialization failed", e);
+            throw new RuntimeException("Database initialization failed: " + e.getMessage(), e);
         }
     }
 
     /**
-     * Helper method to create index if it doesn't exist
+     * Loads the email filter and the type-ahead search index in one streaming scan
+     * Writes made while loading are applied to both too, so they are complete once ready
      */
-    private void createIndexIfNotExists(Connection conn, String indexName, String createIndexSql) {
-        try {
-            // Check if index exists
-            DatabaseMetaData meta = conn.getMetaData();
-            ResultSet indexes = meta.getIndexInfo(null, null, "students", false, false);
-
-            boolean indexExists = false;
-            while (indexes.next()) {
-                if (indexName.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
-                    indexExists = true;
-                    break;
-                }
-            }
+    private void loadRosterIndexes() {
+        long start = System.currentTimeMillis();
 
-            if (!indexExists) {
-                try (Statement stmt = conn.createStatement()) {
-                    stmt.execute(createIndexSql);
-                    System.out.println("✅ Index created: " + indexName);
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement("SELECT " + SUMMARY_COLUMNS + " FROM students",
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            pstmt.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                RowMapper.Bound<StudentSummary> mapper = SUMMARY_MAPPER.bind(rs);
+                while (rs.next()) {
+                    StudentSummary summary = mapper.map(rs);
+                    emailFilter.add(summary.getEmail());
+                    searchIndex.putIfAbsent(summary);
                 }
             }
+
+            emailFilter.markReady();
+            searchIndex.markReady();
+            System.out.println("✅ Roster indexes loaded in " + (System.currentTimeMillis() - start) + " ms: "
+                    + emailFilter + ", " + searchIndex);
+
         } catch (SQLException e) {
-            System.out.println("ℹ️ Index might already exist: " + indexName + " - " + e.getMessage());
+            // Filter stays not-ready and every check keeps going to the database
+            System.err.println("❌ Failed to load roster indexes: " + e.getMessage());
         }
     }
 
     /**
      * Authenticates admin by username and password
+     * Same pipeline as authenticateStudent, keyed by the UNIQUE username
      */
+    @Override
     public CompletableFuture<Admin> authenticateAdmin(String username, String password) {
-        return CompletableFuture.supplyAsync(() -> {
-            String sql = "SELECT * FROM admins WHERE username = ? AND password = ?";
+        String account = "admin:" + username;
+        try {
+            loginGuard.checkAllowed(account);
+        } catch (LoginThrottledException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (loginGuard.isKnownFailure(account, password)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return MetricsRegistry.track("authenticateAdmin", CompletableFuture.supplyAsync(() -> {
+            String sql = "SELECT admin_id, username, password, email, name FROM admins WHERE username = ?";
 
             try (Connection conn = DatabaseConnection.getConnection();
                  PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
                 pstmt.setString(1, username);
-                pstmt.setString(2, password);
-
-                ResultSet rs = pstmt.executeQuery();
 
-                if (rs.next()) {
-                    Admin admin = new Admin();
-                    admin.setAdminId(rs.getString("admin_id"));
-                    admin.setUsername(rs.getString("username"));
-                    admin.setPassword(rs.getString("password"));
-                    admin.setEmail(rs.getString("email"));
-                    admin.setName(rs.getString("name"));
-
-                    System.out.println("✅ Admin authentication successful for: " + username);
-                    return admin;
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    return rs.next() ? ADMIN_MAPPER.mapOne(rs) : null;
                 }
 
-                System.out.println("❌ Admin authentication failed for: " + username);
-                return null;
-
             } catch (SQLException e) {
                 System.err.println("❌ Admin authentication error: " + e.getMessage());
                 throw new RuntimeException("Admin authentication failed: " + e.getMessage(), e);
             }
-        });
+        }, DatabaseExecutors.get(OperationClass.AUTH)).thenApplyAsync(admin -> {
+            if (admin == null || !passwordHasher.verify(password, admin.getPassword())) {
+                loginGuard.recordFailure(account, password);
+                System.out.println("❌ Admin authentication failed for: " + username);
+                return null;
+            }
+
+            loginGuard.recordSuccess(account);
+            if (passwordHasher.needsRehash(admin.getPassword())) {
+                upgradePasswordHash("admins", "admin_id", admin.getAdminId(), admin.getPassword(), password);
+            }
+            System.out.println("✅ Admin authentication successful for: " + username);
+            return admin;
+        }, passwordHasher.getExecutor()));
     }
 
     /**
      * Authenticates student by email and password
+     * Admission checks (rate limits, negative cache) run on the caller thread, the indexed
+     * email lookup on the auth executor, and the hash check on the hasher's executor
+     * so database threads are never held during key derivation.
      */
+    @Override
     public CompletableFuture<Student> authenticateStudent(String email, String password) {
-        return CompletableFuture.supplyAsync(() -> {
-            String sql = "SELECT * FROM students WHERE email = ? AND password = ?";
+        try {
+            loginGuard.checkAllowed(email);
+        } catch (LoginThrottledException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        if (loginGuard.isKnownFailure(email, password)) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return MetricsRegistry.track("authenticateStudent", CompletableFuture.supplyAsync(() -> {
+            String sql = "SELECT student_id, name, email, password, branch_id, semester_id, hostel, phone, role FROM students WHERE email = ?";
 
             try (Connection conn = DatabaseConnection.getConnection();
                  PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
                 pstmt.setString(1, email);
-                pstmt.setString(2, password);
 
-                ResultSet rs = pstmt.executeQuery();
-
-                if (rs.next()) {
-                    Student student = resultSetToStudent(rs);
-                    System.out.println("✅ Student authentication successful for: " + email);
-                    return student;
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    return rs.next() ? STUDENT_MAPPER.mapOne(rs) : null;
                 }
 
+            } catch (SQLException e) {
+                System.err.println("❌ Student authentication error: " + e.getMessage());
+                throw new RuntimeException("Student authentication failed: " + e.getMessage(), e);
+            }
+        }, DatabaseExecutors.get(OperationClass.AUTH)).thenApplyAsync(student -> {
+            if (student == null || !passwordHasher.verify(password, student.getPassword())) {
+                loginGuard.recordFailure(email, password);
                 System.out.println("❌ Student authentication failed for: " + email);
                 return null;
+            }
+
+            loginGuard.recordSuccess(email);
+            if (passwordHasher.needsRehash(student.getPassword())) {
+                upgradePasswordHash("students", "student_id", student.getStudentId(), student.getPassword(), password);
+                studentCache.invalidate(student.getStudentId());
+            }
+            System.out.println("✅ Student authentication successful for: " + student.getEmail());
+            return student;
+        }, passwordHasher.getExecutor()));
+    }
+
+    /**
+     * Replaces a plaintext or outdated hash after a successful login (runs on the hasher thread)
+     * The write is conditional on the old value so a concurrent password change wins, and
+     * keeps updated_at so the upgrade does not show up in delta refreshes.
+     */
+    private void upgradePasswordHash(String table, String idColumn, String id, String oldValue, String password) {
+        String newHash = passwordHasher.hash(password);
+        String sql = "UPDATE " + table + " SET password = ?"
+                + ("students".equals(table) ? ", updated_at = updated_at" : "")
+                + " WHERE " + idColumn + " = ? AND password = ?";
 
+        CompletableFuture.runAsync(() -> {
+            try (Connection conn = DatabaseConnection.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+                pstmt.setString(1, newHash);
+                pstmt.setString(2, id);
+                pstmt.setString(3, oldValue);
+                pstmt.executeUpdate();
             } catch (SQLException e) {
-                System.err.println("❌ Student authentication error: " + e.getMessage());
-                throw new RuntimeException("Student authentication failed: " + e.getMessage(), e);
+                // Retried on the next login
+                System.err.println("❌ Failed to upgrade password hash: " + e.getMessage());
             }
-        });
+        }, DatabaseExecutors.get(OperationClass.WRITE));
     }
 
     /**
      * Retrieves all students from database
      */
+    @Override
     public CompletableFuture<List<Student>> getAllStudents() {
-        return CompletableFuture.supplyAsync(() -> {
+        return MetricsRegistry.track("getAllStudents", CompletableFuture.supplyAsync(() -> {
             List<Student> students = new ArrayList<>();
             String sql = "SELECT * FROM students ORDER BY name";
 
@@ -205,8 +323,9 @@ public class MySQLService {
                  PreparedStatement pstmt = conn.prepareStatement(sql);
                  ResultSet rs = pstmt.executeQuery()) {
 
+                RowMapper.Bound<Student> mapper = STUDENT_MAPPER.bind(rs);
                 while (rs.next()) {
-                    students.add(resultSetToStudent(rs));
+                    students.add(mapper.map(rs));
                 }
 
                 return students;
@@ -215,14 +334,165 @@ public class MySQLService {
                 System.err.println("❌ Failed to fetch students: " + e.getMessage());
                 throw new RuntimeException("Failed to fetch students: " + e.getMessage(), e);
             }
-        });
+        }, DatabaseExecutors.get(OperationClass.LIST_READ)));
+    }
+
+    /**
+     * Retrieves one page of student summaries ordered by (name, student_id) using keyset pagination.
+     * Pass null cursor values to fetch the first page; otherwise pass the name and ID
+     * of the last row of the previous page. Backed by idx_student_name_id, so every
+     * page is an index range scan regardless of how deep into the roster it is.
+     */
+    @Override
+    public CompletableFuture<List<StudentSummary>> getStudentsPage(String afterName, String afterStudentId, int limit) {
+        StudentQuery query = new StudentQuery();
+        query.setLimit(limit);
+        return searchStudents(query.after(afterName, afterStudentId));
+    }
+
+    /**
+     * Searches students by branch, semester, hostel, role, name prefix and email domain.
+     * Predicates are always appended in the same order with bound parameters, so each
+     * combination of filters maps to one statement text in the prepared statement cache.
+     * Results are keyset-paged by (name, student_id).
+     */
+    @Override
+    public CompletableFuture<List<StudentSummary>> searchStudents(StudentQuery query) {
+        return MetricsRegistry.track("searchStudents", CompletableFuture.supplyAsync(() -> {
+            StringBuilder sql = new StringBuilder("SELECT " + SUMMARY_COLUMNS + " FROM students WHERE 1 = 1");
+            List<Object> params = new ArrayList<>();
+
+            // Unknown names become -1, which matches no row
+            if (!isBlank(query.getBranch())) {
+                sql.append(" AND branch_id = ?");
+                params.add(REFERENCE_DATA.idOf(Kind.BRANCH, query.getBranch()));
+            }
+            if (!isBlank(query.getSemester())) {
+                sql.append(" AND semester_id = ?");
+                params.add(REFERENCE_DATA.idOf(Kind.SEMESTER, query.getSemester()));
+            }
+            if (query.getHostel() != null) {
+                sql.append(" AND hostel = ?");
+                params.add(query.getHostel());
+            }
+            if (query.getRole() != null) {
+                sql.append(" AND role = ?");
+                params.add(query.getRole().toString());
+            }
+            if (!isBlank(query.getNamePrefix())) {
+                sql.append(" AND name LIKE ?");
+                params.add(escapeLike(query.getNamePrefix().trim()) + "%");
+            }
+            if (!isBlank(query.getEmailDomain())) {
+                String domain = query.getEmailDomain().trim();
+                sql.append(" AND email LIKE ?");
+                params.add("%@" + escapeLike(domain.startsWith("@") ? domain.substring(1) : domain));
+            }
+            if (query.getAfterName() != null && query.getAfterStudentId() != null) {
+                sql.append(" AND (name > ? OR (name = ? AND student_id > ?))");
+                params.add(query.getAfterName());
+                params.add(query.getAfterName());
+                params.add(query.getAfterStudentId());
+            }
+            sql.append(" ORDER BY name, student_id LIMIT ?");
+            params.add(query.getLimit());
+
+            List<StudentSummary> students = new ArrayList<>(Math.min(query.getLimit(), 1000));
+
+            try (Connection conn = DatabaseConnection.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+                for (int i = 0; i < params.size(); i++) {
+                    pstmt.setObject(i + 1, params.get(i));
+                }
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    RowMapper.Bound<StudentSummary> mapper = SUMMARY_MAPPER.bind(rs);
+                    while (rs.next()) {
+                        students.add(mapper.map(rs));
+                    }
+                }
+
+                return students;
+
+            } catch (SQLException e) {
+                System.err.println("❌ Failed to search students: " + e.getMessage());
+                throw new RuntimeException("Failed to search students: " + e.getMessage(), e);
+            }
+        }, DatabaseExecutors.get(OperationClass.LIST_READ)));
     }
 
     /**
-     * Retrieves student by ID
+     * Retrieves students changed or deleted since the watermark (inclusive)
+     * Uses idx_student_updated_at and the tombstone table, so the cost follows churn
+     * instead of roster size. Pass null to only obtain the current watermark.
+     * The next watermark is the database clock read before the change queries run;
+     * the inclusive comparison re-delivers rows from that same second, which is harmless.
      */
+    @Override
+    public CompletableFuture<StudentDelta> getStudentsModifiedSince(Timestamp watermark) {
+        return MetricsRegistry.track("getStudentsModifiedSince", CompletableFuture.supplyAsync(() -> {
+            List<StudentSummary> changed = new ArrayList<>();
+            List<String> deletedIds = new ArrayList<>();
+
+            try (Connection conn = DatabaseConnection.getConnection()) {
+                Timestamp now;
+                boolean fullReload = false;
+
+                try (Statement stmt = conn.createStatement();
+                     ResultSet rs = stmt.executeQuery("SELECT CURRENT_TIMESTAMP, NOW() - INTERVAL "
+                             + DatabaseConfig.getTombstoneRetentionDays() + " DAY")) {
+                    rs.next();
+                    now = rs.getTimestamp(1);
+                    fullReload = watermark != null && watermark.before(rs.getTimestamp(2));
+                }
+
+                if (watermark == null || fullReload) {
+                    return new StudentDelta(changed, deletedIds, now, fullReload);
+                }
+
+                try (PreparedStatement pstmt = conn.prepareStatement(
+                        "SELECT " + SUMMARY_COLUMNS + " FROM students WHERE updated_at >= ?")) {
+                    pstmt.setTimestamp(1, watermark);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        RowMapper.Bound<StudentSummary> mapper = SUMMARY_MAPPER.bind(rs);
+                        while (rs.next()) {
+                            changed.add(mapper.map(rs));
+                        }
+                    }
+                }
+
+                try (PreparedStatement pstmt = conn.prepareStatement(
+                        "SELECT student_id FROM student_tombstones WHERE deleted_at >= ?")) {
+                    pstmt.setTimestamp(1, watermark);
+                    try (ResultSet rs = pstmt.executeQuery()) {
+                        while (rs.next()) {
+                            deletedIds.add(rs.getString(1));
+                        }
+                    }
+                }
+
+                return new StudentDelta(changed, deletedIds, now, false);
+
+            } catch (SQLException e) {
+                System.err.println("❌ Failed to fetch student changes: " + e.getMessage());
+                throw new RuntimeException("Failed to fetch student changes: " + e.getMessage(), e);
+            }
+        }, DatabaseExecutors.get(OperationClass.LIST_READ)));
+    }
+
+    /**
+     * Retrieves student by ID, served from the student cache when possible
+     */
+    @Override
     public CompletableFuture<Student> getStudentById(String studentId) {
-        return CompletableFuture.supplyAsync(() -> {
+        Student cached = studentCache.get(studentId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        long loadGeneration = studentCache.currentGeneration();
+        return MetricsRegistry.track("getStudentById", CompletableFuture.supplyAsync(() -> {
             String sql = "SELECT * FROM students WHERE student_id = ?";
 
             try (Connection conn = DatabaseConnection.getConnection();
@@ -232,7 +502,9 @@ public class MySQLService {
                 ResultSet rs = pstmt.executeQuery();
 
                 if (rs.next()) {
-                    return resultSetToStudent(rs);
+                    Student student = STUDENT_MAPPER.mapOne(rs);
+                    studentCache.put(studentId, student, loadGeneration);
+                    return student;
                 }
 
                 return null;
@@ -241,37 +513,47 @@ public class MySQLService {
                 System.err.println("❌ Failed to fetch student: " + e.getMessage());
                 throw new RuntimeException("Failed to fetch student: " + e.getMessage(), e);
             }
-        });
+        }, DatabaseExecutors.get(OperationClass.POINT_READ)));
     }
 
     /**
      * Adds a new student to the database
+     * Relies on the UNIQUE email constraint; fails with DuplicateEmailException if the email is taken
      */
+    @Override
     public CompletableFuture<String> addStudent(Student student) {
-        return CompletableFuture.supplyAsync(() -> {
+        return MetricsRegistry.track("addStudent", CompletableFuture.supplyAsync(() -> passwordHasher.hash(student.getPassword()),
+                passwordHasher.getExecutor()).thenApplyAsync(passwordHash -> {
             String sql = """
-                INSERT INTO students (student_id, name, email, password, branch, semester, hostel, phone, role)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                INSERT INTO students (id, student_id, name, email, password, branch_id, semester_id, hostel, phone, role)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
             """;
 
-            String studentId = generateStudentId();
+            canonicalize(student);
+            long id = StudentIdGenerator.getInstance().nextId();
+            String studentId = StudentIdGenerator.format(id);
 
             try (Connection conn = DatabaseConnection.getConnection();
                  PreparedStatement pstmt = conn.prepareStatement(sql)) {
 
-                pstmt.setString(1, studentId);
-                pstmt.setString(2, student.getName());
-                pstmt.setString(3, student.getEmail());
-                pstmt.setString(4, student.getPassword());
-                pstmt.setString(5, student.getBranch());
-                pstmt.setString(6, student.getSemester());
-                pstmt.setBoolean(7, student.isHostel());
-                pstmt.setString(8, student.getPhone());
-                pstmt.setString(9, student.getRole() != null ? student.getRole().toString() : "STUDENT");
+                pstmt.setLong(1, id);
+                pstmt.setString(2, studentId);
+                pstmt.setString(3, student.getName());
+                pstmt.setString(4, student.getEmail());
+                pstmt.setString(5, passwordHash);
+                pstmt.setInt(6, REFERENCE_DATA.idOf(Kind.BRANCH, student.getBranch()));
+                pstmt.setInt(7, REFERENCE_DATA.idOf(Kind.SEMESTER, student.getSemester()));
+                pstmt.setBoolean(8, student.isHostel());
+                pstmt.setString(9, student.getPhone());
+                pstmt.setString(10, student.getRole() != null ? student.getRole().toString() : "STUDENT");
 
                 int affectedRows = pstmt.executeUpdate();
 
                 if (affectedRows > 0) {
+                    studentCache.invalidate(studentId);
+                    emailFilter.add(student.getEmail());
+                    loginGuard.invalidate(student.getEmail());
+                    searchIndex.put(StudentSummary.of(studentId, student));
                     student.setStudentId(studentId);
                     return studentId;
                 } else {
@@ -282,92 +564,161 @@ public class MySQLService {
                 System.err.println("❌ Failed to add student: " + e.getMessage());
 
                 // Handle duplicate email error
-                if (e.getMessage().contains("Duplicate entry") && e.getMessage().contains("email")) {
-                    throw new RuntimeException("Email already exists: " + student.getEmail());
+                if (isDuplicateEmail(e)) {
+                    throw new DuplicateEmailException(student.getEmail(), e);
                 }
 
                 throw new RuntimeException("Failed to add student: " + e.getMessage(), e);
             }
-        });
+        }, DatabaseExecutors.get(OperationClass.WRITE)));
     }
 
     /**
      * Updates an existing student in the database
+     * A blank password keeps the current one. Fails with DuplicateEmailException if the
+     * new email belongs to another student
      */
+    @Override
     public CompletableFuture<Void> updateStudent(String studentId, Student student) {
-        return CompletableFuture.supplyAsync(() -> {
-            String sql = """
-                UPDATE students 
-                SET name = ?, email = ?, password = ?, branch = ?, semester = ?, hostel = ?, phone = ?, role = ?
-                WHERE student_id = ?
-            """;
+        return MetricsRegistry.track("updateStudent", CompletableFuture.supplyAsync(() -> isBlank(student.getPassword()) ? null
+                        : passwordHasher.hash(student.getPassword()),
+                passwordHasher.getExecutor()).thenComposeAsync(passwordHash -> {
+            canonicalize(student);
+            if (writeBehind != null) {
+                studentCache.invalidate(studentId);
+                return writeBehind.enqueue(studentId, student, passwordHash);
+            }
+            return CompletableFuture.completedFuture(writeThrough(studentId, student, passwordHash));
+        }, DatabaseExecutors.get(OperationClass.WRITE)));
+    }
 
-            try (Connection conn = DatabaseConnection.getConnection();
-                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
+    /**
+     * Applies one update directly with an autocommit UPDATE
+     */
+    private Void writeThrough(String studentId, Student student, String passwordHash) {
+        String sql = """
+            UPDATE students
+            SET name = ?, email = ?, password = COALESCE(?, password), branch_id = ?, semester_id = ?, hostel = ?, phone = ?, role = ?
+            WHERE student_id = ?
+        """;
 
-                pstmt.setString(1, student.getName());
-                pstmt.setString(2, student.getEmail());
-                pstmt.setString(3, student.getPassword());
-                pstmt.setString(4, student.getBranch());
-                pstmt.setString(5, student.getSemester());
-                pstmt.setBoolean(6, student.isHostel());
-                pstmt.setString(7, student.getPhone());
-                pstmt.setString(8, student.getRole() != null ? student.getRole().toString() : "STUDENT");
-                pstmt.setString(9, studentId);
+        studentCache.invalidate(studentId);
 
-                int affectedRows = pstmt.executeUpdate();
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, student.getName());
+            pstmt.setString(2, student.getEmail());
+            pstmt.setString(3, passwordHash);
+            pstmt.setInt(4, REFERENCE_DATA.idOf(Kind.BRANCH, student.getBranch()));
+            pstmt.setInt(5, REFERENCE_DATA.idOf(Kind.SEMESTER, student.getSemester()));
+            pstmt.setBoolean(6, student.isHostel());
+            pstmt.setString(7, student.getPhone());
+            pstmt.setString(8, student.getRole() != null ? student.getRole().toString() : "STUDENT");
+            pstmt.setString(9, studentId);
+
+            int affectedRows = pstmt.executeUpdate();
+            if (affectedRows == 0) {
+                throw new RuntimeException("Student not found with ID: " + studentId);
+            }
 
-                if (affectedRows == 0) {
-                    throw new RuntimeException("Student not found with ID: " + studentId);
-                }
+            afterStudentUpdated(studentId, student);
+            return null;
 
-                return null;
+        } catch (SQLException e) {
+            System.err.println("❌ Failed to update student: " + e.getMessage());
 
-            } catch (SQLException e) {
-                System.err.println("❌ Failed to update student: " + e.getMessage());
+            // Handle duplicate email error
+            if (isDuplicateEmail(e)) {
+                throw new DuplicateEmailException(student.getEmail(), e);
+            }
 
-                // Handle duplicate email error
-                if (e.getMessage().contains("Duplicate entry") && e.getMessage().contains("email")) {
-                    throw new RuntimeException("Email already exists: " + student.getEmail());
-                }
+            throw new RuntimeException("Failed to update student: " + e.getMessage(), e);
+        }
+    }
 
-                throw new RuntimeException("Failed to update student: " + e.getMessage(), e);
-            }
-        });
+    /**
+     * Replaces branch and semester with their stored spellings, adding new values to the reference tables
+     */
+    private void canonicalize(Student student) {
+        student.setBranch(REFERENCE_DATA.canonical(Kind.BRANCH, student.getBranch()));
+        student.setSemester(REFERENCE_DATA.canonical(Kind.SEMESTER, student.getSemester()));
+    }
+
+    /**
+     * Brings the in-memory components up to date once an update has committed
+     */
+    private void afterStudentUpdated(String studentId, Student student) {
+        studentCache.invalidate(studentId);
+        emailFilter.add(student.getEmail());
+        loginGuard.invalidate(student.getEmail());
+        searchIndex.put(StudentSummary.of(studentId, student));
     }
 
     /**
      * Deletes a student from the database
      */
+    @Override
     public CompletableFuture<Void> deleteStudent(String studentId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return MetricsRegistry.track("deleteStudent", CompletableFuture.supplyAsync(() -> {
             String sql = "DELETE FROM students WHERE student_id = ?";
+            String tombstoneSql = """
+                INSERT INTO student_tombstones (student_id) VALUES (?)
+                ON DUPLICATE KEY UPDATE deleted_at = CURRENT_TIMESTAMP
+            """;
+            studentCache.invalidate(studentId);
 
-            try (Connection conn = DatabaseConnection.getConnection();
-                 PreparedStatement pstmt = conn.prepareStatement(sql)) {
-
-                pstmt.setString(1, studentId);
-
-                int affectedRows = pstmt.executeUpdate();
-
-                if (affectedRows == 0) {
-                    throw new RuntimeException("Student not found with ID: " + studentId);
+            try (Connection conn = DatabaseConnection.getConnection()) {
+                conn.setAutoCommit(false);
+
+                try (PreparedStatement pstmt = conn.prepareStatement(sql);
+                     PreparedStatement tombstone = conn.prepareStatement(tombstoneSql)) {
+
+                    pstmt.setString(1, studentId);
+                    int affectedRows = pstmt.executeUpdate();
+
+                    if (affectedRows == 0) {
+                        conn.rollback();
+                        throw new RuntimeException("Student not found with ID: " + studentId);
+                    }
+
+                    // Record the delete in the same transaction for delta refreshes
+                    tombstone.setString(1, studentId);
+                    tombstone.executeUpdate();
+                    conn.commit();
+                } catch (SQLException e) {
+                    conn.rollback();
+                    throw e;
                 }
 
+                studentCache.invalidate(studentId);
+                searchIndex.remove(studentId);
                 return null;
 
             } catch (SQLException e) {
                 System.err.println("❌ Failed to delete student: " + e.getMessage());
                 throw new RuntimeException("Failed to delete student: " + e.getMessage(), e);
             }
-        });
+        }, DatabaseExecutors.get(OperationClass.WRITE)));
     }
 
     /**
      * Checks if email already exists in database
+     * Backs the signup form's availability hint. A "no" from the email filter answers
+     * without a query; the filter only knows emails this process has seen, so writes
+     * still rely on the UNIQUE email constraint.
      */
+    @Override
     public CompletableFuture<Boolean> emailExists(String email, String excludeStudentId) {
-        return CompletableFuture.supplyAsync(() -> {
+        if (emailFilter.isReady()) {
+            if (!emailFilter.mightContain(email)) {
+                emailFilter.recordQuerySaved();
+                return CompletableFuture.completedFuture(false);
+            }
+            emailFilter.recordFallThrough();
+        }
+
+        return MetricsRegistry.track("emailExists", CompletableFuture.supplyAsync(() -> {
             String sql;
             PreparedStatement pstmt;
 
@@ -385,27 +736,95 @@ public class MySQLService {
 
                 ResultSet rs = pstmt.executeQuery();
 
-                if (rs.next()) {
-                    return rs.getInt("count") > 0;
+                boolean exists = rs.next() && rs.getInt("count") > 0;
+                if (!exists && emailFilter.isReady() && (excludeStudentId == null || excludeStudentId.isEmpty())) {
+                    emailFilter.recordFalsePositive();
                 }
 
-                return false;
+                return exists;
 
             } catch (SQLException e) {
                 System.err.println("❌ Email check failed: " + e.getMessage());
                 throw new RuntimeException("Email check failed: " + e.getMessage(), e);
             }
-        });
+        }, DatabaseExecutors.get(OperationClass.POINT_READ)));
+    }
+
+    /**
+     * Imports students in bulk, inserting JDBC batches in one transaction per chunk
+     */
+    @Override
+    public CompletableFuture<StudentBulkImporter.ImportResult> importStudents(
+            List<File> files, StudentBulkImporter.ProgressListener listener) {
+        return bulkImporter.importFiles(files, listener);
+    }
+
+    /**
+     * Streams the students table to a file with a forward-only cursor
+     */
+    @Override
+    public CompletableFuture<Long> exportStudents(File file, StudentExporter.Format format) {
+        return exporter.exportToFile(file, format);
+    }
+
+    /**
+     * Gets the student lookup cache (for hit/miss/eviction statistics)
+     */
+    public StudentCache getStudentCache() {
+        return studentCache;
+    }
+
+    /**
+     * Gets the email existence filter (for saved-query statistics)
+     */
+    public EmailBloomFilter getEmailFilter() {
+        return emailFilter;
+    }
+
+    /**
+     * Gets the in-memory type-ahead index over name, email and phone
+     */
+    @Override
+    public StudentSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Gets the password hasher (shared with the bulk importer)
+     */
+    public PasswordHasher getPasswordHasher() {
+        return passwordHasher;
+    }
+
+    /**
+     * Gets the login rate limiter and negative cache
+     */
+    public LoginGuard getLoginGuard() {
+        return loginGuard;
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getReferenceValues(ReferenceData.Kind kind) {
+        return CompletableFuture.completedFuture(REFERENCE_DATA.names(kind));
+    }
+
+    /**
+     * Gets the columnar roster analytics engine
+     */
+    @Override
+    public RosterAnalytics getRosterAnalytics() {
+        return rosterAnalytics;
     }
 
     /**
      * Creates default admin account if not exists
      */
+    @Override
     public void createDefaultAdmin() {
         String checkSql = "SELECT COUNT(*) as count FROM admins WHERE username = 'admin'";
         String insertSql = """
-            INSERT INTO admins (admin_id, username, password, email, name) 
-            VALUES (?, 'admin', 'admin123', 'admin@school.com', 'System Administrator')
+            INSERT INTO admins (admin_id, username, password, email, name)
+            VALUES (?, 'admin', ?, 'admin@school.com', 'System Administrator')
         """;
 
         try (Connection conn = DatabaseConnection.getConnection();
@@ -416,6 +835,7 @@ public class MySQLService {
                 // Create default admin
                 try (PreparedStatement pstmt = conn.prepareStatement(insertSql)) {
                     pstmt.setString(1, generateAdminId());
+                    pstmt.setString(2, passwordHasher.hash("admin123"));
                     pstmt.executeUpdate();
                     System.out.println("✅ Default admin account created");
                 }
@@ -427,34 +847,23 @@ public class MySQLService {
     }
 
     /**
-     * Converts ResultSet to Student object
+     * True if the exception is a duplicate-key error on the email unique index
+     * (the primary key raises the same vendor code, so the key name is checked too)
      */
-    private Student resultSetToStudent(ResultSet rs) throws SQLException {
-        Student student = new Student();
-        student.setStudentId(rs.getString("student_id"));
-        student.setName(rs.getString("name"));
-        student.setEmail(rs.getString("email"));
-        student.setPassword(rs.getString("password"));
-        student.setBranch(rs.getString("branch"));
-        student.setSemester(rs.getString("semester"));
-        student.setHostel(rs.getBoolean("hostel"));
-        student.setPhone(rs.getString("phone"));
-
-        String roleStr = rs.getString("role");
-        if (roleStr != null) {
-            student.setRole(UserRole.valueOf(roleStr));
-        } else {
-            student.setRole(UserRole.STUDENT);
-        }
+    private boolean isDuplicateEmail(SQLException e) {
+        return e.getErrorCode() == DuplicateEmailException.MYSQL_DUPLICATE_ENTRY
+                && e.getMessage() != null && e.getMessage().contains("email");
+    }
 
-        return student;
+    private boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
     }
 
     /**
-     * Generates unique student ID
+     * Escapes LIKE wildcards so user input is matched literally
      */
-    private String generateStudentId() {
-        return "STU_" + System.currentTimeMillis() + "_" + (int)(Math.random() * 1000);
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
     }
 
     /**
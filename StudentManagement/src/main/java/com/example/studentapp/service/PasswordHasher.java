@@ -0,0 +1,139 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.config.DatabaseConfig;
+import com.example.studentapp.database.DatabaseExecutors.BoundedExecutor;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Salted PBKDF2-HMAC-SHA256 password hashing with a configurable iteration count
+ * Stored format is pbkdf2$iterations$salt$hash (Base64), so the cost can be raised
+ * later and older hashes are upgraded on the next successful login. Hashing is
+ * CPU-bound and runs on its own bounded executor, sized to the cores, so a login
+ * storm neither ties up database threads nor starves other work.
+ */
+public class PasswordHasher {
+    private static final String PREFIX = "pbkdf2$";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_BYTES = 16;
+    private static final int HASH_BITS = 256;
+
+    private final SecureRandom random = new SecureRandom();
+    private final int iterations;
+    private final BoundedExecutor executor;
+
+    public PasswordHasher(int iterations) {
+        this.iterations = iterations;
+        int cores = Runtime.getRuntime().availableProcessors();
+        this.executor = new BoundedExecutor("password-hash",
+                DatabaseConfig.getExecutorThreads("password-hash", cores),
+                DatabaseConfig.getExecutorQueueCapacity("password-hash", 1000),
+                "caller-runs".equalsIgnoreCase(DatabaseConfig.getExecutorRejectionPolicy("password-hash")));
+    }
+
+    /**
+     * Hashes a password with a fresh salt at the configured cost
+     */
+    public String hash(String password) {
+        byte[] salt = new byte[SALT_BYTES];
+        random.nextBytes(salt);
+        byte[] hash = pbkdf2(password, salt, iterations);
+        Base64.Encoder base64 = Base64.getEncoder();
+        return PREFIX + iterations + "$" + base64.encodeToString(salt) + "$" + base64.encodeToString(hash);
+    }
+
+    /**
+     * Import/migration path only: keeps a value that is already a well-formed stored hash
+     * (e.g. a row exported from another instance) and hashes anything else. Passwords
+     * typed by a user must always go through hash(), whatever they look like.
+     */
+    public String hashForImport(String password) {
+        return isWellFormedHash(password) ? password : hash(password);
+    }
+
+    /**
+     * Checks a password against a stored value in constant time
+     * Plaintext values from before hashing was introduced are still accepted;
+     * callers should rehash them (see needsRehash).
+     */
+    public boolean verify(String password, String stored) {
+        if (password == null || stored == null) {
+            return false;
+        }
+        if (!isHash(stored)) {
+            return MessageDigest.isEqual(password.getBytes(StandardCharsets.UTF_8), stored.getBytes(StandardCharsets.UTF_8));
+        }
+
+        String[] parts = stored.split("\\$");
+        if (parts.length != 4) {
+            return false;
+        }
+        try {
+            int storedIterations = Integer.parseInt(parts[1]);
+            byte[] salt = Base64.getDecoder().decode(parts[2]);
+            byte[] expected = Base64.getDecoder().decode(parts[3]);
+            return MessageDigest.isEqual(expected, pbkdf2(password, salt, storedIterations));
+        } catch (IllegalArgumentException e) {
+            return false; // Corrupt hash never matches
+        }
+    }
+
+    /**
+     * True for plaintext values and hashes made with a different cost
+     */
+    public boolean needsRehash(String stored) {
+        return !isHash(stored) || !stored.startsWith(PREFIX + iterations + "$");
+    }
+
+    public static boolean isHash(String value) {
+        return value != null && value.startsWith(PREFIX);
+    }
+
+    /**
+     * True if the value parses as pbkdf2$iterations$salt$hash with a positive cost and a full-length hash
+     */
+    public static boolean isWellFormedHash(String value) {
+        if (!isHash(value)) {
+            return false;
+        }
+        String[] parts = value.split("\\$");
+        if (parts.length != 4) {
+            return false;
+        }
+        try {
+            return Integer.parseInt(parts[1]) > 0
+                    && Base64.getDecoder().decode(parts[2]).length > 0
+                    && Base64.getDecoder().decode(parts[3]).length == HASH_BITS / 8;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Executor for verify/hash work
+     */
+    public BoundedExecutor getExecutor() {
+        return executor;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    private static byte[] pbkdf2(String password, byte[] salt, int iterations) {
+        PBEKeySpec spec = new PBEKeySpec(password.toCharArray(), salt, iterations, HASH_BITS);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
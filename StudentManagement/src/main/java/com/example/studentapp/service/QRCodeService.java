@@ -50,7 +50,7 @@ public class QRCodeService {
     /**
      * Formats student data for QR code content
      */
-    private String formatStudentData(Student student) {
+    String formatStudentData(Student student) {
         return String.format(
                 "STUDENT INFORMATION\n" +
                         "===================\n" +
@@ -0,0 +1,281 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.database.DatabaseConnection;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory dictionaries for the branches and semesters reference tables
+ * students rows store small integer keys; this maps them to names for reads and names
+ * back to keys for writes. Names match case-insensitively, so "computer science" is
+ * stored as the canonical "Computer Science". Loaded once at startup; a name not seen
+ * before is added to its table on first write from the student forms (bulk imports only
+ * accept names already in the table).
+ *
+ * Without a database (in-memory store) keys are assigned locally.
+ */
+public class ReferenceData {
+
+    /**
+     * A reference table
+     */
+    public enum Kind {
+        BRANCH("branches", "branch_id", 50, "Branch"),
+        SEMESTER("semesters", "semester_id", 20, "Semester");
+
+        private final String table;
+        private final String idColumn;
+        private final int maxLength;
+        private final String label;
+
+        Kind(String table, String idColumn, int maxLength, String label) {
+            this.table = table;
+            this.idColumn = idColumn;
+            this.maxLength = maxLength;
+            this.label = label;
+        }
+
+        /** Key column, in both the reference table and students */
+        public String getIdColumn() { return idColumn; }
+    }
+
+    /**
+     * Values offered on a fresh install; schema migration 7 seeds the same lists
+     */
+    static final List<String> DEFAULT_BRANCHES = List.of("Computer Science", "Information Technology",
+            "Electronics", "Electrical", "Mechanical", "Civil");
+    static final List<String> DEFAULT_SEMESTERS = List.of("1", "2", "3", "4", "5", "6", "7", "8");
+
+    /**
+     * Names indexed by key, plus the reverse lookup by lower-cased name
+     */
+    private static class Dictionary {
+        volatile String[] names = new String[16];
+        final Map<String, Integer> ids = new ConcurrentHashMap<>();
+        int nextLocalId = 1;
+    }
+
+    private final boolean persistent;
+    private final Map<Kind, Dictionary> dictionaries = new ConcurrentHashMap<>();
+
+    /**
+     * @param persistent true to back the dictionaries with the MySQL reference tables
+     */
+    public ReferenceData(boolean persistent) {
+        this.persistent = persistent;
+        for (Kind kind : Kind.values()) {
+            dictionaries.put(kind, new Dictionary());
+        }
+    }
+
+    /**
+     * Reads both reference tables; called at startup once migrations have run
+     */
+    public void load() {
+        if (!persistent) {
+            return;
+        }
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            for (Kind kind : Kind.values()) {
+                load(conn, kind);
+            }
+            System.out.println("✅ Reference data loaded: " + size(Kind.BRANCH) + " branches, "
+                    + size(Kind.SEMESTER) + " semesters");
+        } catch (SQLException e) {
+            System.err.println("❌ Failed to load reference data: " + e.getMessage());
+            throw new RuntimeException("Failed to load reference data: " + e.getMessage(), e);
+        }
+    }
+
+    private void load(Connection conn, Kind kind) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT " + kind.idColumn + ", name FROM " + kind.table)) {
+            synchronized (dictionaries.get(kind)) {
+                while (rs.next()) {
+                    remember(kind, rs.getInt(1), rs.getString(2));
+                }
+            }
+        }
+    }
+
+    /**
+     * Seeds the default values; used by the in-memory store
+     */
+    public void addDefaults() {
+        DEFAULT_BRANCHES.forEach(name -> idFor(Kind.BRANCH, name));
+        DEFAULT_SEMESTERS.forEach(name -> idFor(Kind.SEMESTER, name));
+    }
+
+    /**
+     * Name for a key, or null if there is none
+     * A key unknown here may have been added by another instance, so the table is re-read once.
+     */
+    public String name(Kind kind, int id) {
+        String name = lookup(kind, id);
+        if (name == null && persistent) {
+            try (Connection conn = DatabaseConnection.getConnection()) {
+                load(conn, kind);
+            } catch (SQLException e) {
+                throw new RuntimeException("Failed to load reference data: " + e.getMessage(), e);
+            }
+            name = lookup(kind, id);
+        }
+        return name;
+    }
+
+    private String lookup(Kind kind, int id) {
+        String[] names = dictionaries.get(kind).names;
+        return id > 0 && id < names.length ? names[id] : null;
+    }
+
+    /**
+     * Key for a name, or -1 if it is not in the table
+     */
+    public int idOf(Kind kind, String name) {
+        if (name == null) {
+            return -1;
+        }
+        Integer id = dictionaries.get(kind).ids.get(key(name));
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Key for a name, adding the name to the table if it is new
+     * @throws IllegalArgumentException for a blank or too long name
+     */
+    public int idFor(Kind kind, String name) {
+        int id = idOf(kind, name);
+        if (id > 0) {
+            return id;
+        }
+        String trimmed = name == null ? "" : name.trim();
+        if (trimmed.isEmpty() || trimmed.length() > kind.maxLength) {
+            throw new IllegalArgumentException(kind.label + " must be 1-" + kind.maxLength + " characters: " + name);
+        }
+
+        Dictionary dictionary = dictionaries.get(kind);
+        synchronized (dictionary) {
+            id = idOf(kind, trimmed);
+            if (id > 0) {
+                return id;
+            }
+            if (!persistent) {
+                id = dictionary.nextLocalId;
+                remember(kind, id, trimmed);
+                return id;
+            }
+
+            // INSERT IGNORE: another instance may have added the same name meanwhile
+            try (Connection conn = DatabaseConnection.getConnection()) {
+                try (PreparedStatement insert = conn.prepareStatement(
+                        "INSERT IGNORE INTO " + kind.table + " (name) VALUES (?)")) {
+                    insert.setString(1, trimmed);
+                    insert.executeUpdate();
+                }
+                try (PreparedStatement select = conn.prepareStatement(
+                        "SELECT " + kind.idColumn + ", name FROM " + kind.table + " WHERE name = ?")) {
+                    select.setString(1, trimmed);
+                    try (ResultSet rs = select.executeQuery()) {
+                        if (!rs.next()) {
+                            throw new SQLException(kind.label + " was not stored: " + trimmed);
+                        }
+                        id = rs.getInt(1);
+                        remember(kind, id, rs.getString(2));
+                        System.out.println("✅ Added " + kind.label.toLowerCase(Locale.ROOT) + ": " + rs.getString(2));
+                        return id;
+                    }
+                }
+            } catch (SQLException e) {
+                System.err.println("❌ Failed to add " + kind.label.toLowerCase(Locale.ROOT) + ": " + e.getMessage());
+                throw new RuntimeException("Failed to add " + kind.label.toLowerCase(Locale.ROOT) + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * The stored spelling of a name already in the table, or null; never adds the name
+     */
+    public String existingName(Kind kind, String name) {
+        int id = idOf(kind, name);
+        return id > 0 ? lookup(kind, id) : null;
+    }
+
+    /**
+     * The stored spelling of a name, adding it if it is new
+     */
+    public String canonical(Kind kind, String name) {
+        return lookup(kind, idFor(kind, name));
+    }
+
+    /**
+     * All names, for dropdowns: numbers in numeric order, then text alphabetically
+     */
+    public List<String> names(Kind kind) {
+        List<String> names = new ArrayList<>();
+        for (String name : dictionaries.get(kind).names) {
+            if (name != null) {
+                names.add(name);
+            }
+        }
+        names.sort(ReferenceData::compareNames);
+        return names;
+    }
+
+    public int size(Kind kind) {
+        return dictionaries.get(kind).ids.size();
+    }
+
+    /**
+     * Records a key and name; callers hold the dictionary's lock
+     */
+    void remember(Kind kind, int id, String name) {
+        Dictionary dictionary = dictionaries.get(kind);
+        String[] names = dictionary.names;
+        if (id >= names.length) {
+            names = Arrays.copyOf(names, Math.max(id + 1, names.length * 2));
+        } else {
+            names = names.clone();
+        }
+        names[id] = name;
+        dictionary.names = names;
+        dictionary.ids.put(key(name), id);
+        dictionary.nextLocalId = Math.max(dictionary.nextLocalId, id + 1);
+    }
+
+    private static String key(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    static int compareNames(String a, String b) {
+        boolean aNumber = isNumber(a), bNumber = isNumber(b);
+        if (aNumber && bNumber) {
+            return Long.compare(Long.parseLong(a), Long.parseLong(b));
+        }
+        if (aNumber != bNumber) {
+            return aNumber ? -1 : 1;
+        }
+        return String.CASE_INSENSITIVE_ORDER.compare(a, b);
+    }
+
+    private static boolean isNumber(String value) {
+        if (value.isEmpty() || value.length() > 18) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,473 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.database.DatabaseConnection;
+import com.example.studentapp.database.DatabaseExecutors;
+import com.example.studentapp.database.DatabaseExecutors.OperationClass;
+import com.example.studentapp.database.MetricsRegistry;
+import com.example.studentapp.model.StudentSummary;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar, dictionary-encoded in-memory copy of the roster for group-by/count analytics
+ * Branch, semester and role are stored as int codes into per-column dictionaries and
+ * hostel as a bitset. Counts run in parallel over row ranges into dense arrays that are
+ * merged at the end. The same queries can be pushed down to MySQL as GROUP BY for comparison.
+ */
+public class RosterAnalytics {
+
+    /**
+     * Columns that can be grouped or filtered on
+     */
+    public enum Dimension {
+        BRANCH("branch_id", ReferenceData.Kind.BRANCH), SEMESTER("semester_id", ReferenceData.Kind.SEMESTER),
+        HOSTEL("hostel", null), ROLE("role", null);
+
+        private final String column;
+        private final ReferenceData.Kind referenceKind;
+
+        Dimension(String column, ReferenceData.Kind referenceKind) {
+            this.column = column;
+            this.referenceKind = referenceKind;
+        }
+
+        public String getColumn() { return column; }
+    }
+
+    /**
+     * One output row: the group key values in dimension order and the count
+     */
+    public static class GroupCount {
+        private final List<String> keys;
+        private final long count;
+
+        public GroupCount(List<String> keys, long count) {
+            this.keys = keys;
+            this.count = count;
+        }
+
+        public List<String> getKeys() { return keys; }
+        public long getCount() { return count; }
+    }
+
+    /**
+     * Result of a query with its execution time
+     */
+    public static class QueryResult {
+        private final List<Dimension> groupBy;
+        private final List<GroupCount> groups;
+        private final long elapsedNanos;
+
+        public QueryResult(List<Dimension> groupBy, List<GroupCount> groups, long elapsedNanos) {
+            this.groupBy = groupBy;
+            this.groups = groups;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public List<Dimension> getGroupBy() { return groupBy; }
+        public List<GroupCount> getGroups() { return groups; }
+        public double getElapsedMillis() { return elapsedNanos / 1_000_000.0; }
+
+        public long getTotal() {
+            long total = 0;
+            for (GroupCount group : groups) {
+                total += group.getCount();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * String dictionary assigning dense int codes in first-seen order
+     */
+    private static class Dictionary {
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int encode(String value) {
+            String key = value == null ? "" : value;
+            Integer code = codes.get(key);
+            if (code == null) {
+                code = values.size();
+                codes.put(key, code);
+                values.add(key);
+            }
+            return code;
+        }
+
+        int lookup(String value) {
+            Integer code = codes.get(value == null ? "" : value);
+            return code == null ? -1 : code;
+        }
+
+        String decode(int code) { return values.get(code); }
+        int size() { return values.size(); }
+    }
+
+    /**
+     * Immutable columnar snapshot of the roster
+     */
+    private static class Columns {
+        final int rowCount;
+        final Map<Dimension, Dictionary> dictionaries;
+        final Map<Dimension, int[]> codes;
+        final BitSet hostel;
+        final long loadMillis;
+
+        Columns(int rowCount, Map<Dimension, Dictionary> dictionaries, Map<Dimension, int[]> codes,
+                BitSet hostel, long loadMillis) {
+            this.rowCount = rowCount;
+            this.dictionaries = dictionaries;
+            this.codes = codes;
+            this.hostel = hostel;
+            this.loadMillis = loadMillis;
+        }
+
+        int cardinality(Dimension dimension) {
+            return dimension == Dimension.HOSTEL ? 2 : dictionaries.get(dimension).size();
+        }
+
+        int code(Dimension dimension, int row) {
+            return dimension == Dimension.HOSTEL ? (hostel.get(row) ? 1 : 0) : codes.get(dimension)[row];
+        }
+
+        int lookup(Dimension dimension, String value) {
+            if (dimension == Dimension.HOSTEL) {
+                return "Yes".equalsIgnoreCase(value) || "true".equalsIgnoreCase(value) ? 1 : 0;
+            }
+            return dictionaries.get(dimension).lookup(value);
+        }
+
+        String decode(Dimension dimension, int code) {
+            return dimension == Dimension.HOSTEL ? (code == 1 ? "Yes" : "No") : dictionaries.get(dimension).decode(code);
+        }
+    }
+
+    /**
+     * Appends rows to growable code arrays, then freezes them into Columns
+     */
+    private static class ColumnsBuilder {
+        final Map<Dimension, Dictionary> dictionaries = new EnumMap<>(Dimension.class);
+        int[] branch = new int[1024];
+        int[] semester = new int[1024];
+        int[] role = new int[1024];
+        final BitSet hostel = new BitSet();
+        int rows;
+
+        ColumnsBuilder() {
+            dictionaries.put(Dimension.BRANCH, new Dictionary());
+            dictionaries.put(Dimension.SEMESTER, new Dictionary());
+            dictionaries.put(Dimension.ROLE, new Dictionary());
+        }
+
+        void add(String branchValue, String semesterValue, boolean hostelValue, String roleValue) {
+            if (rows == branch.length) {
+                int capacity = rows * 2;
+                branch = Arrays.copyOf(branch, capacity);
+                semester = Arrays.copyOf(semester, capacity);
+                role = Arrays.copyOf(role, capacity);
+            }
+            branch[rows] = dictionaries.get(Dimension.BRANCH).encode(branchValue);
+            semester[rows] = dictionaries.get(Dimension.SEMESTER).encode(semesterValue);
+            if (hostelValue) {
+                hostel.set(rows);
+            }
+            role[rows] = dictionaries.get(Dimension.ROLE).encode(roleValue != null ? roleValue : "STUDENT");
+            rows++;
+        }
+
+        Columns build(long loadMillis) {
+            Map<Dimension, int[]> codes = new EnumMap<>(Dimension.class);
+            codes.put(Dimension.BRANCH, Arrays.copyOf(branch, rows));
+            codes.put(Dimension.SEMESTER, Arrays.copyOf(semester, rows));
+            codes.put(Dimension.ROLE, Arrays.copyOf(role, rows));
+            return new Columns(rows, dictionaries, codes, hostel, loadMillis);
+        }
+    }
+
+    private static final int MAX_GROUPS = 1 << 22;
+
+    private final InMemoryStudentRepository memoryStore;
+    private final ReferenceData referenceData;
+    private volatile Columns columns;
+
+    /**
+     * @param referenceData dictionaries for the branch_id and semester_id keys
+     */
+    public RosterAnalytics(ReferenceData referenceData) {
+        this.memoryStore = null;
+        this.referenceData = referenceData;
+    }
+
+    /**
+     * Analytics over an in-memory store; there is no SQL engine to compare against
+     */
+    RosterAnalytics(InMemoryStudentRepository memoryStore) {
+        this.memoryStore = memoryStore;
+        this.referenceData = null;
+    }
+
+    /**
+     * Loads (or reloads) the columnar snapshot with a streaming scan
+     * @return number of rows loaded
+     */
+    public CompletableFuture<Integer> load() {
+        return MetricsRegistry.track("loadRosterAnalytics", CompletableFuture.supplyAsync(() -> {
+            long start = System.currentTimeMillis();
+            ColumnsBuilder builder = new ColumnsBuilder();
+
+            if (memoryStore != null) {
+                for (StudentSummary student : memoryStore.summaries()) {
+                    builder.add(student.getBranch(), student.getSemester(), student.isHostel(),
+                            student.getRole() != null ? student.getRole().toString() : null);
+                }
+            } else {
+                loadFromDatabase(builder);
+            }
+
+            long elapsed = System.currentTimeMillis() - start;
+            columns = builder.build(elapsed);
+            return builder.rows;
+        }, DatabaseExecutors.get(OperationClass.BULK)));
+    }
+
+    private void loadFromDatabase(ColumnsBuilder builder) {
+        String sql = "SELECT branch_id, semester_id, hostel, role FROM students";
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(sql,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            pstmt.setFetchSize(Integer.MIN_VALUE);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    builder.add(referenceData.name(ReferenceData.Kind.BRANCH, rs.getInt(1)),
+                            referenceData.name(ReferenceData.Kind.SEMESTER, rs.getInt(2)), rs.getBoolean(3), rs.getString(4));
+                }
+            }
+
+        } catch (SQLException e) {
+            System.err.println("❌ Failed to load roster analytics: " + e.getMessage());
+            throw new RuntimeException("Failed to load roster analytics: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Exposes the loaded snapshot to the metrics registry
+     */
+    public void registerGauges() {
+        MetricsRegistry.registerGauge("roster_analytics_rows", "Rows in the columnar roster snapshot", this::getRowCount);
+        MetricsRegistry.registerGauge("roster_analytics_load_ms", "Time the last columnar snapshot load took", this::getLoadMillis);
+    }
+
+    public boolean isLoaded() {
+        return columns != null;
+    }
+
+    public int getRowCount() {
+        Columns current = columns;
+        return current == null ? 0 : current.rowCount;
+    }
+
+    public long getLoadMillis() {
+        Columns current = columns;
+        return current == null ? 0 : current.loadMillis;
+    }
+
+    /**
+     * Counts rows grouped by the given dimensions over the in-memory columns
+     * @param groupBy dimensions to group by (may be empty for a plain count)
+     * @param filters equality filters by dimension; hostel takes "Yes"/"No"
+     */
+    public QueryResult countInMemory(List<Dimension> groupBy, Map<Dimension, String> filters) {
+        Columns current = columns;
+        if (current == null) {
+            throw new IllegalStateException("Roster analytics not loaded");
+        }
+
+        long start = System.nanoTime();
+
+        // Translate filter values to codes once; an unknown value matches nothing
+        Dimension[] filterDims = filters.keySet().toArray(new Dimension[0]);
+        int[] filterCodes = new int[filterDims.length];
+        for (int i = 0; i < filterDims.length; i++) {
+            filterCodes[i] = current.lookup(filterDims[i], filters.get(filterDims[i]));
+            if (filterCodes[i] < 0) {
+                return new QueryResult(groupBy, new ArrayList<>(), System.nanoTime() - start);
+            }
+        }
+
+        Dimension[] dims = groupBy.toArray(new Dimension[0]);
+        int[] cardinalities = new int[dims.length];
+        long groupSpace = 1;
+        for (int i = 0; i < dims.length; i++) {
+            cardinalities[i] = current.cardinality(dims[i]);
+            groupSpace *= Math.max(1, cardinalities[i]);
+        }
+        if (groupSpace > MAX_GROUPS) {
+            throw new IllegalArgumentException("Too many groups for in-memory count: " + groupSpace);
+        }
+        int groups = (int) groupSpace;
+
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int chunkCount = Math.max(1, Math.min(parallelism * 4, current.rowCount / 16_384 + 1));
+        int chunkSize = (current.rowCount + chunkCount - 1) / chunkCount;
+
+        long[] counts = IntStream.range(0, chunkCount).parallel()
+                .mapToObj(chunk -> countRange(current, chunk * chunkSize,
+                        Math.min(current.rowCount, (chunk + 1) * chunkSize),
+                        dims, cardinalities, groups, filterDims, filterCodes))
+                .reduce(new long[groups], (a, b) -> {
+                    long[] merged = new long[groups];
+                    for (int i = 0; i < groups; i++) {
+                        merged[i] = a[i] + b[i];
+                    }
+                    return merged;
+                });
+
+        List<GroupCount> result = new ArrayList<>();
+        for (int key = 0; key < groups; key++) {
+            if (counts[key] == 0) {
+                continue;
+            }
+            List<String> keys = new ArrayList<>(dims.length);
+            int remainder = key;
+            for (int i = dims.length - 1; i >= 0; i--) {
+                keys.add(0, current.decode(dims[i], remainder % cardinalities[i]));
+                remainder /= cardinalities[i];
+            }
+            result.add(new GroupCount(keys, counts[key]));
+        }
+        sortGroups(result);
+
+        return new QueryResult(groupBy, result, System.nanoTime() - start);
+    }
+
+    /**
+     * Counts one row range into a dense array indexed by the mixed-radix group key
+     */
+    private static long[] countRange(Columns columns, int from, int to, Dimension[] dims, int[] cardinalities,
+                                     int groups, Dimension[] filterDims, int[] filterCodes) {
+        long[] counts = new long[groups];
+        int[][] dimCodes = new int[dims.length][];
+        for (int i = 0; i < dims.length; i++) {
+            dimCodes[i] = dims[i] == Dimension.HOSTEL ? null : columns.codes.get(dims[i]);
+        }
+        int[][] filterColumns = new int[filterDims.length][];
+        for (int i = 0; i < filterDims.length; i++) {
+            filterColumns[i] = filterDims[i] == Dimension.HOSTEL ? null : columns.codes.get(filterDims[i]);
+        }
+
+        rows:
+        for (int row = from; row < to; row++) {
+            for (int f = 0; f < filterDims.length; f++) {
+                int code = filterColumns[f] == null ? (columns.hostel.get(row) ? 1 : 0) : filterColumns[f][row];
+                if (code != filterCodes[f]) {
+                    continue rows;
+                }
+            }
+            int key = 0;
+            for (int i = 0; i < dims.length; i++) {
+                int code = dimCodes[i] == null ? (columns.hostel.get(row) ? 1 : 0) : dimCodes[i][row];
+                key = key * cardinalities[i] + code;
+            }
+            counts[key]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Runs the same query as a SQL GROUP BY for comparison
+     */
+    public CompletableFuture<QueryResult> countInDatabase(List<Dimension> groupBy, Map<Dimension, String> filters) {
+        if (memoryStore != null) {
+            return CompletableFuture.failedFuture(
+                    new UnsupportedOperationException("SQL statistics need the MySQL store (store.mode=mysql)"));
+        }
+        return MetricsRegistry.track("countRosterInDatabase", CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+
+            StringBuilder select = new StringBuilder("SELECT ");
+            StringBuilder group = new StringBuilder();
+            for (Dimension dimension : groupBy) {
+                select.append(dimension.getColumn()).append(", ");
+                group.append(group.length() == 0 ? " GROUP BY " : ", ").append(dimension.getColumn());
+            }
+            select.append("COUNT(*) FROM students WHERE 1 = 1");
+
+            List<Object> params = new ArrayList<>();
+            for (Map.Entry<Dimension, String> filter : filters.entrySet()) {
+                select.append(" AND ").append(filter.getKey().getColumn()).append(" = ?");
+                if (filter.getKey() == Dimension.HOSTEL) {
+                    params.add("Yes".equalsIgnoreCase(filter.getValue()) || "true".equalsIgnoreCase(filter.getValue()));
+                } else if (filter.getKey().referenceKind != null) {
+                    params.add(referenceData.idOf(filter.getKey().referenceKind, filter.getValue()));
+                } else {
+                    params.add(filter.getValue());
+                }
+            }
+            select.append(group);
+
+            List<GroupCount> result = new ArrayList<>();
+            try (Connection conn = DatabaseConnection.getConnection();
+                 PreparedStatement pstmt = conn.prepareStatement(select.toString())) {
+
+                for (int i = 0; i < params.size(); i++) {
+                    pstmt.setObject(i + 1, params.get(i));
+                }
+
+                try (ResultSet rs = pstmt.executeQuery()) {
+                    while (rs.next()) {
+                        List<String> keys = new ArrayList<>(groupBy.size());
+                        for (int i = 0; i < groupBy.size(); i++) {
+                            if (groupBy.get(i) == Dimension.HOSTEL) {
+                                keys.add(rs.getBoolean(i + 1) ? "Yes" : "No");
+                            } else if (groupBy.get(i).referenceKind != null) {
+                                String value = referenceData.name(groupBy.get(i).referenceKind, rs.getInt(i + 1));
+                                keys.add(value == null ? "" : value);
+                            } else {
+                                String value = rs.getString(i + 1);
+                                keys.add(value == null ? "" : value);
+                            }
+                        }
+                        long count = rs.getLong(groupBy.size() + 1);
+                        if (count > 0) {
+                            result.add(new GroupCount(keys, count));
+                        }
+                    }
+                }
+
+            } catch (SQLException e) {
+                System.err.println("❌ Failed to run roster statistics query: " + e.getMessage());
+                throw new RuntimeException("Failed to run roster statistics query: " + e.getMessage(), e);
+            }
+
+            sortGroups(result);
+            return new QueryResult(groupBy, result, System.nanoTime() - start);
+        }, DatabaseExecutors.get(OperationClass.LIST_READ)));
+    }
+
+    private static void sortGroups(List<GroupCount> groups) {
+        groups.sort((a, b) -> {
+            for (int i = 0; i < a.getKeys().size(); i++) {
+                int cmp = a.getKeys().get(i).compareTo(b.getKeys().get(i));
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        });
+    }
+}
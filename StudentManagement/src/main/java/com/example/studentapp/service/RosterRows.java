@@ -0,0 +1,27 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.model.StudentSummary;
+import com.example.studentapp.model.UserRole;
+
+/**
+ * Read access to a roster by row index, decoding one field at a time
+ */
+public interface RosterRows {
+    int size();
+    String getStudentId(int row);
+    String getName(int row);
+    String getEmail(int row);
+    String getBranch(int row);
+    String getSemester(int row);
+    boolean isHostel(int row);
+    String getPhone(int row);
+    UserRole getRole(int row);
+
+    /**
+     * Decodes a whole row
+     */
+    default StudentSummary get(int row) {
+        return new StudentSummary(getStudentId(row), getName(row), getEmail(row), getBranch(row),
+                getSemester(row), isHostel(row), getPhone(row), getRole(row));
+    }
+}
@@ -0,0 +1,421 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.config.DatabaseConfig;
+import com.example.studentapp.database.MetricsRegistry;
+import com.example.studentapp.model.StudentSummary;
+import com.example.studentapp.model.UserRole;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.sql.Timestamp;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The admin roster as last shown, saved to a local binary file for the next login
+ * The file is memory-mapped read-only and rows are decoded straight from the mapping
+ * through a table of row offsets, so opening it and painting the first screen costs
+ * the same for ten students as for a million. The saved delta watermark lets the
+ * dashboard bring the rows up to date with one updated_at query instead of a reload.
+ *
+ * Layout (big-endian; strings are an int byte length, -1 for null, then UTF-8):
+ *   header   magic, version, saved-at millis, watermark millis + nanos, more-pages flag,
+ *            file length (a cheap check for a truncated file), source, last loaded name + student_id, dictionary (branch/semester values)
+ *   offsets  row count, then one int per row: the row's position in the file
+ *   rows     id long (-1 for a legacy ID, followed by it as a string), branch short,
+ *            semester short, flags byte (bit 0 hostel, then role ordinal), name, email, phone
+ * Files with another version or source are ignored, and rewritten on the next save.
+ */
+public class RosterSnapshot implements RosterRows {
+    private static final int MAGIC = 0x534D5253; // "SMRS"
+    private static final int VERSION = 1;
+    private static final int ROW_FIXED_BYTES = 8 + 2 + 2 + 1;
+    private static final long LEGACY_ID = -1;
+    private static final UserRole[] ROLES = UserRole.values();
+    private static final AtomicLong IGNORED = new AtomicLong();
+
+    static {
+        MetricsRegistry.registerGauge("roster_snapshot_ignored", "Roster snapshots skipped as outdated, foreign or unreadable",
+                IGNORED::get);
+    }
+
+    private final MappedByteBuffer buffer;
+    private final long savedAt;
+    private final Timestamp watermark;
+    private final boolean hasMorePages;
+    private final String lastLoadedName;
+    private final String lastLoadedId;
+    private final String[] dictionary;
+    private final int rowCount;
+    private final int offsetsStart;
+
+    private RosterSnapshot(MappedByteBuffer buffer, long savedAt, Timestamp watermark, boolean hasMorePages,
+                           String lastLoadedName, String lastLoadedId, String[] dictionary,
+                           int rowCount, int offsetsStart) {
+        this.buffer = buffer;
+        this.savedAt = savedAt;
+        this.watermark = watermark;
+        this.hasMorePages = hasMorePages;
+        this.lastLoadedName = lastLoadedName;
+        this.lastLoadedId = lastLoadedId;
+        this.dictionary = dictionary;
+        this.rowCount = rowCount;
+        this.offsetsStart = offsetsStart;
+    }
+
+    /**
+     * Maps the snapshot saved for the configured store
+     * @return the snapshot, or null if there is none or roster.snapshot.enabled is false
+     */
+    public static RosterSnapshot openForCurrentStore() {
+        if (!DatabaseConfig.isRosterSnapshotEnabled()) {
+            return null;
+        }
+        String source = currentSource();
+        long start = System.nanoTime();
+        RosterSnapshot snapshot = open(fileFor(source), source);
+        if (snapshot != null) {
+            MetricsRegistry.histogram("openRosterSnapshot").record(System.nanoTime() - start, false);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Saves a roster as the snapshot for the configured store; does nothing if snapshots are disabled
+     */
+    public static void saveForCurrentStore(CompactRoster roster, Timestamp watermark, boolean hasMorePages,
+                                           String lastLoadedName, String lastLoadedId) throws IOException {
+        if (!DatabaseConfig.isRosterSnapshotEnabled()) {
+            return;
+        }
+        String source = currentSource();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            write(fileFor(source), source, roster, watermark, hasMorePages, lastLoadedName, lastLoadedId);
+            failed = false;
+        } finally {
+            MetricsRegistry.histogram("saveRosterSnapshot").record(System.nanoTime() - start, failed);
+        }
+    }
+
+    /**
+     * Identifies the store the roster came from, so a snapshot is never shown against another database
+     */
+    static String currentSource() {
+        return DatabaseConfig.isInMemoryStore()
+                ? "memory:" + Paths.get(DatabaseConfig.getSnapshotFile()).toAbsolutePath()
+                : DatabaseConfig.getUrl();
+    }
+
+    /**
+     * Snapshot file for a source, under roster.snapshot.dir
+     */
+    static Path fileFor(String source) {
+        return Paths.get(DatabaseConfig.getRosterSnapshotDir())
+                .resolve(String.format(Locale.ROOT, "roster-%08x.bin", source.hashCode()));
+    }
+
+    /**
+     * Maps a snapshot file
+     * @return the snapshot, or null if there is none or it is unreadable, outdated or from another source
+     */
+    public static RosterSnapshot open(Path file, String source) {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("file is larger than 2 GB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (buffer.getInt(0) != MAGIC) {
+                throw new IOException("not a roster snapshot");
+            }
+            int version = buffer.getInt(4);
+            if (version != VERSION) {
+                IGNORED.incrementAndGet(); // written by another version; replaced on the next save
+                return null;
+            }
+
+            long savedAt = buffer.getLong(8);
+            Timestamp watermark = new Timestamp(buffer.getLong(16));
+            watermark.setNanos(buffer.getInt(24));
+            boolean hasMorePages = buffer.get(28) != 0;
+            if (buffer.getLong(29) != size) {
+                throw new IOException("file is truncated");
+            }
+            int position = 37;
+            String savedSource = readString(buffer, position);
+            if (!source.equals(savedSource)) {
+                IGNORED.incrementAndGet(); // another database hashed to the same file name
+                return null;
+            }
+            position = skipString(buffer, position);
+            String lastLoadedName = readString(buffer, position);
+            position = skipString(buffer, position);
+            String lastLoadedId = readString(buffer, position);
+            position = skipString(buffer, position);
+
+            int dictionarySize = buffer.getInt(position);
+            position += 4;
+            String[] dictionary = new String[dictionarySize + 1]; // code 0 is null
+            for (int i = 1; i <= dictionarySize; i++) {
+                dictionary[i] = readString(buffer, position);
+                position = skipString(buffer, position);
+            }
+
+            int rowCount = buffer.getInt(position);
+            int offsetsStart = position + 4;
+            long rowsStart = offsetsStart + (long) rowCount * 4;
+            if (rowCount < 0 || rowsStart > size) {
+                throw new IOException("row count out of range: " + rowCount);
+            }
+            // Rows are not checked here, which would cost time in proportion to the roster;
+            // a damaged row fails when it is read and toRoster() reports it
+
+            return new RosterSnapshot(buffer, savedAt, watermark, hasMorePages, lastLoadedName, lastLoadedId,
+                    dictionary, rowCount, offsetsStart);
+        } catch (IOException | RuntimeException e) {
+            IGNORED.incrementAndGet();
+            System.err.println("⚠️ Ignoring unreadable roster snapshot " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes a roster to a new file and moves it over the old one, so readers never see half a file
+     * @param watermark delta watermark the rows are current as of
+     * @param lastLoadedName keyset cursor of the last page loaded, null if none
+     */
+    public static void write(Path file, String source, CompactRoster roster, Timestamp watermark,
+                             boolean hasMorePages, String lastLoadedName, String lastLoadedId) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        // Student contact details: keep the file private to this OS user where the file system allows
+        Path temp = FileSystems.getDefault().supportedFileAttributeViews().contains("posix")
+                ? Files.createTempFile(directory, "roster", ".tmp",
+                        PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")))
+                : Files.createTempFile(directory, "roster", ".tmp");
+
+        try {
+            List<String> dictionary = new ArrayList<>();
+            Map<String, Short> codes = new HashMap<>();
+            int rowCount = roster.size();
+            short[] branches = new short[rowCount];
+            short[] semesters = new short[rowCount];
+            for (int row = 0; row < rowCount; row++) {
+                branches[row] = code(roster.getBranch(row), dictionary, codes);
+                semesters[row] = code(roster.getSemester(row), dictionary, codes);
+            }
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeLong(System.currentTimeMillis());
+                out.writeLong(watermark.getTime());
+                out.writeInt(watermark.getNanos());
+                out.writeBoolean(hasMorePages);
+                out.writeLong(0); // file length, filled in at the end
+                writeString(out, source);
+                writeString(out, lastLoadedName);
+                writeString(out, lastLoadedId);
+                out.writeInt(dictionary.size());
+                for (String value : dictionary) {
+                    writeString(out, value);
+                }
+                out.writeInt(rowCount);
+                long offsetsStart = out.size();
+                // Offsets are filled in once the rows are written and their positions known
+                for (int row = 0; row < rowCount; row++) {
+                    out.writeInt(0);
+                }
+
+                int[] offsets = new int[rowCount];
+                for (int row = 0; row < rowCount; row++) {
+                    offsets[row] = out.size();
+                    String studentId = roster.getStudentId(row);
+                    long id = StudentIdGenerator.parse(studentId);
+                    out.writeLong(id);
+                    out.writeShort(branches[row]);
+                    out.writeShort(semesters[row]);
+                    out.writeByte((roster.getRole(row).ordinal() << 1) | (roster.isHostel(row) ? 1 : 0));
+                    if (id == LEGACY_ID) {
+                        writeString(out, studentId);
+                    }
+                    writeString(out, roster.getName(row));
+                    writeString(out, roster.getEmail(row));
+                    writeString(out, roster.getPhone(row));
+                    if (out.size() == Integer.MAX_VALUE) { // DataOutputStream's counter saturates at 2 GB
+                        throw new IOException("roster is too large to snapshot");
+                    }
+                }
+                out.flush();
+
+                ByteBuffer offsetTable = ByteBuffer.allocate(rowCount * 4);
+                offsetTable.asIntBuffer().put(offsets);
+                writeFully(channel, offsetTable, offsetsStart);
+                writeFully(channel, ByteBuffer.allocate(8).putLong(0, channel.size()), 29);
+                channel.force(false);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public int size() { return rowCount; }
+    public long getSavedAt() { return savedAt; }
+    public Timestamp getWatermark() { return (Timestamp) watermark.clone(); }
+    public boolean hasMorePages() { return hasMorePages; }
+    public String getLastLoadedName() { return lastLoadedName; }
+    public String getLastLoadedId() { return lastLoadedId; }
+
+    @Override
+    public String getStudentId(int row) {
+        int position = rowStart(row);
+        long id = buffer.getLong(position);
+        return id != LEGACY_ID ? StudentIdGenerator.format(id) : readString(buffer, position + ROW_FIXED_BYTES);
+    }
+
+    @Override
+    public String getName(int row) {
+        return readString(buffer, nameStart(row));
+    }
+
+    @Override
+    public String getEmail(int row) {
+        return readString(buffer, skipString(buffer, nameStart(row)));
+    }
+
+    @Override
+    public String getPhone(int row) {
+        return readString(buffer, skipString(buffer, skipString(buffer, nameStart(row))));
+    }
+
+    @Override
+    public String getBranch(int row) {
+        return dictionary[buffer.getShort(rowStart(row) + 8)];
+    }
+
+    @Override
+    public String getSemester(int row) {
+        return dictionary[buffer.getShort(rowStart(row) + 10)];
+    }
+
+    @Override
+    public boolean isHostel(int row) {
+        return (buffer.get(rowStart(row) + 12) & 1) != 0;
+    }
+
+    @Override
+    public UserRole getRole(int row) {
+        return ROLES[(buffer.get(rowStart(row) + 12) & 0xFF) >>> 1];
+    }
+
+    /**
+     * Decodes every row into a roster that can take updates; safe off the event dispatch thread
+     */
+    public CompactRoster toRoster() {
+        CompactRoster roster = new CompactRoster();
+        // A list view, so rows are decoded one at a time instead of all being held at once
+        roster.addAll(new AbstractList<>() {
+            @Override
+            public StudentSummary get(int index) {
+                return RosterSnapshot.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return rowCount;
+            }
+        });
+        return roster;
+    }
+
+    private int rowStart(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + rowCount);
+        }
+        int position = buffer.getInt(offsetsStart + row * 4);
+        if (position < offsetsStart || position > buffer.limit() - ROW_FIXED_BYTES) {
+            throw new IndexOutOfBoundsException("Roster snapshot row " + row + " is damaged");
+        }
+        return position;
+    }
+
+    private int nameStart(int row) {
+        int position = rowStart(row);
+        return buffer.getLong(position) != LEGACY_ID
+                ? position + ROW_FIXED_BYTES
+                : skipString(buffer, position + ROW_FIXED_BYTES);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+
+    private static short code(String value, List<String> dictionary, Map<String, Short> codes) {
+        if (value == null) {
+            return 0;
+        }
+        Short code = codes.get(value);
+        if (code == null) {
+            if (dictionary.size() >= Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct branch and semester values: " + dictionary.size());
+            }
+            dictionary.add(value);
+            code = (short) dictionary.size();
+            codes.put(value, code);
+        }
+        return code;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // Absolute reads only: the buffer's position is never touched, so concurrent readers are safe
+    private static String readString(ByteBuffer buffer, int position) {
+        int length = buffer.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int skipString(ByteBuffer buffer, int position) {
+        return position + 4 + Math.max(0, buffer.getInt(position));
+    }
+}
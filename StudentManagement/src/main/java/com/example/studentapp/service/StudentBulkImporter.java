@@ -0,0 +1,648 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.database.DatabaseConnection;
+import com.example.studentapp.database.DatabaseExecutors;
+import com.example.studentapp.database.DatabaseExecutors.BoundedExecutor;
+import com.example.studentapp.database.DatabaseExecutors.OperationClass;
+import com.example.studentapp.model.Student;
+import com.example.studentapp.model.StudentSummary;
+import com.example.studentapp.model.UserRole;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulk student import from CSV or JSON files
+ * Files are parsed in parallel, rows are validated and de-duplicated, then
+ * inserted through JDBC batches in one transaction per chunk, or straight into
+ * the in-memory store when that is the primary store.
+ *
+ * Throughput is set by password hashing, not by the database. A plaintext password
+ * costs one PBKDF2 derivation at auth.hash.iterations (tens of milliseconds per core at
+ * the default), so plaintext imports run at a few dozen rows per second per core. Only
+ * rows that already hold a stored hash, such as files exported from another instance,
+ * reach the batch insert rate of thousands of rows per second.
+ */
+public class StudentBulkImporter {
+    private static final int CHUNK_SIZE = 1000;
+    private static final String[] COLUMNS = {"name", "email", "password", "branch", "semester", "hostel", "phone"};
+    private static final String INSERT_SQL = """
+        INSERT INTO students (id, student_id, name, email, password, branch_id, semester_id, hostel, phone, role)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    private final EmailBloomFilter emailFilter;
+    private final StudentSearchIndex searchIndex;
+    private final PasswordHasher passwordHasher;
+    private final InMemoryStudentRepository memoryStore;
+    private final ReferenceData referenceData;
+
+    /**
+     * @param emailFilter filter that must learn every imported email
+     * @param searchIndex type-ahead index that must learn every imported student
+     * @param passwordHasher hasher for imported plaintext passwords; well-formed hashes are kept as they are
+     * @param referenceData dictionaries that map branch and semester names to keys; imported rows must use known names
+     */
+    public StudentBulkImporter(EmailBloomFilter emailFilter, StudentSearchIndex searchIndex, PasswordHasher passwordHasher,
+                               ReferenceData referenceData) {
+        this.emailFilter = emailFilter;
+        this.searchIndex = searchIndex;
+        this.passwordHasher = passwordHasher;
+        this.memoryStore = null;
+        this.referenceData = referenceData;
+    }
+
+    /**
+     * Importer writing to an in-memory store, which maintains its own indexes
+     */
+    StudentBulkImporter(InMemoryStudentRepository memoryStore, PasswordHasher passwordHasher) {
+        this.emailFilter = null;
+        this.searchIndex = null;
+        this.passwordHasher = passwordHasher;
+        this.memoryStore = memoryStore;
+        this.referenceData = memoryStore.getReferenceData();
+    }
+
+    /**
+     * Receives progress updates after every committed chunk
+     */
+    public interface ProgressListener {
+        void onProgress(int processedRows, int totalRows);
+    }
+
+    /**
+     * A single rejected input row
+     */
+    public static class RowError {
+        private final String source;
+        private final int lineNumber;
+        private final String message;
+
+        public RowError(String source, int lineNumber, String message) {
+            this.source = source;
+            this.lineNumber = lineNumber;
+            this.message = message;
+        }
+
+        public String getSource() { return source; }
+        public int getLineNumber() { return lineNumber; }
+        public String getMessage() { return message; }
+
+        @Override
+        public String toString() {
+            return String.format("%s:%d - %s", source, lineNumber, message);
+        }
+    }
+
+    /**
+     * Summary of an import run
+     */
+    public static class ImportResult {
+        private final int totalRows;
+        private final int importedRows;
+        private final List<RowError> errors;
+        private final long elapsedMillis;
+
+        public ImportResult(int totalRows, int importedRows, List<RowError> errors, long elapsedMillis) {
+            this.totalRows = totalRows;
+            this.importedRows = importedRows;
+            this.errors = errors;
+            this.elapsedMillis = elapsedMillis;
+        }
+
+        public int getTotalRows() { return totalRows; }
+        public int getImportedRows() { return importedRows; }
+        public List<RowError> getErrors() { return errors; }
+        public long getElapsedMillis() { return elapsedMillis; }
+
+        public double getRowsPerSecond() {
+            return elapsedMillis == 0 ? importedRows : importedRows * 1000.0 / elapsedMillis;
+        }
+
+        /**
+         * Formats the per-row error report as plain text, one error per line
+         */
+        public String formatErrorReport() {
+            StringBuilder report = new StringBuilder();
+            for (RowError error : errors) {
+                report.append(error).append('\n');
+            }
+            return report.toString();
+        }
+    }
+
+    /**
+     * Parsed input row with its origin for error reporting
+     */
+    private static class ImportRow {
+        final String source;
+        final int lineNumber;
+        final Student student;
+
+        ImportRow(String source, int lineNumber, Student student) {
+            this.source = source;
+            this.lineNumber = lineNumber;
+            this.student = student;
+        }
+    }
+
+    /**
+     * Parsed content of one file
+     */
+    private static class ParsedFile {
+        final List<ImportRow> rows = new ArrayList<>();
+        final List<RowError> errors = new ArrayList<>();
+    }
+
+    /**
+     * Imports all given CSV/JSON files
+     * @param files input files (.csv or .json)
+     * @param listener progress listener, may be null
+     */
+    public CompletableFuture<ImportResult> importFiles(List<File> files, ProgressListener listener) {
+        return CompletableFuture.supplyAsync(() -> {
+            long start = System.currentTimeMillis();
+
+            // Parse every file in parallel; parsing is CPU-only so the common pool is fine here
+            List<CompletableFuture<ParsedFile>> parsing = new ArrayList<>();
+            for (File file : files) {
+                parsing.add(CompletableFuture.supplyAsync(() -> parseFile(file)));
+            }
+
+            List<ImportRow> rows = new ArrayList<>();
+            List<RowError> errors = new ArrayList<>();
+            Set<String> seenEmails = new HashSet<>();
+            int totalRows = 0;
+            referenceData.load(); // picks up branches and semesters other instances have added
+
+            for (CompletableFuture<ParsedFile> future : parsing) {
+                ParsedFile parsed = future.join();
+                errors.addAll(parsed.errors);
+                totalRows += parsed.rows.size() + parsed.errors.size();
+
+                for (ImportRow row : parsed.rows) {
+                    String error = validate(row.student);
+                    if (error == null) {
+                        error = useStoredNames(row.student);
+                    }
+                    if (error != null) {
+                        errors.add(new RowError(row.source, row.lineNumber, error));
+                    } else if (!seenEmails.add(normalizeEmail(row.student.getEmail()))) {
+                        errors.add(new RowError(row.source, row.lineNumber,
+                                "Duplicate email in import: " + row.student.getEmail()));
+                    } else {
+                        rows.add(row);
+                    }
+                }
+            }
+
+            int processed = totalRows - rows.size();
+            int imported = memoryStore != null
+                    ? insertIntoMemory(rows, errors, processed, totalRows, listener)
+                    : insertIntoDatabase(rows, errors, processed, totalRows, listener);
+
+            long elapsed = System.currentTimeMillis() - start;
+            System.out.println("✅ Bulk import finished: " + imported + "/" + totalRows + " rows in " + elapsed + " ms");
+            return new ImportResult(totalRows, imported, errors, elapsed);
+        }, DatabaseExecutors.get(OperationClass.BULK));
+    }
+
+    /**
+     * Inserts the rows chunk by chunk
+     * @return number of rows inserted
+     */
+    private int insertIntoDatabase(List<ImportRow> rows, List<RowError> errors, int processed, int totalRows,
+                                   ProgressListener listener) {
+        int imported = 0;
+
+        try {
+            for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+                List<ImportRow> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+                imported += insertChunk(chunk, errors);
+                processed += chunk.size();
+
+                if (listener != null) {
+                    listener.onProgress(processed, totalRows);
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("❌ Bulk import failed: " + e.getMessage());
+            throw new RuntimeException("Bulk import failed: " + e.getMessage(), e);
+        }
+        return imported;
+    }
+
+    /**
+     * Inserts the rows into the in-memory store; existing emails are reported per row
+     * @return number of rows inserted
+     */
+    private int insertIntoMemory(List<ImportRow> rows, List<RowError> errors, int processed, int totalRows,
+                                 ProgressListener listener) {
+        int imported = 0;
+
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<ImportRow> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+
+            // Skip hashing rows that would be rejected anyway
+            List<ImportRow> pending = new ArrayList<>(chunk.size());
+            for (ImportRow row : chunk) {
+                if (memoryStore.emailExists(row.student.getEmail(), null).join()) {
+                    errors.add(new RowError(row.source, row.lineNumber,
+                            "Email already exists: " + row.student.getEmail()));
+                } else {
+                    pending.add(row);
+                }
+            }
+            hashPasswords(pending);
+
+            for (ImportRow row : pending) {
+                try {
+                    row.student.setRole(UserRole.STUDENT);
+                    memoryStore.insert(row.student);
+                    imported++;
+                } catch (DuplicateEmailException e) {
+                    errors.add(new RowError(row.source, row.lineNumber, e.getMessage()));
+                }
+            }
+            processed += chunk.size();
+
+            if (listener != null) {
+                listener.onProgress(processed, totalRows);
+            }
+        }
+        return imported;
+    }
+
+    /**
+     * Hashes the rows' passwords on the hasher's bounded executor, where logins hash too
+     * One task per hasher thread is in flight, and each resubmits itself after every row,
+     * so a login waits behind at most one import row per thread. Runs while no connection
+     * is held; see the class comment for what it costs.
+     */
+    private void hashPasswords(List<ImportRow> rows) {
+        BoundedExecutor executor = passwordHasher.getExecutor();
+        AtomicInteger next = new AtomicInteger();
+        int workers = Math.min(executor.getThreads(), rows.size());
+        List<CompletableFuture<Void>> running = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            running.add(hashNext(rows, next, executor));
+        }
+        CompletableFuture.allOf(running.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    private CompletableFuture<Void> hashNext(List<ImportRow> rows, AtomicInteger next, BoundedExecutor executor) {
+        int index = next.getAndIncrement();
+        if (index >= rows.size()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        Student student = rows.get(index).student;
+        return CompletableFuture.runAsync(() -> student.setPassword(passwordHasher.hashForImport(student.getPassword())), executor)
+                .thenCompose(ignored -> hashNext(rows, next, executor));
+    }
+
+    /**
+     * Inserts one chunk in a single transaction
+     * Existing emails are filtered out with one IN query, then the passwords are hashed,
+     * and only then is a connection borrowed for the batch, so a slow hash never holds a
+     * pooled connection or an open transaction.
+     * @return number of rows inserted
+     */
+    private int insertChunk(List<ImportRow> chunk, List<RowError> errors) throws SQLException {
+        Set<String> existing;
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            existing = findExistingEmails(conn, chunk);
+        }
+
+        List<ImportRow> pending = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existing.contains(normalizeEmail(row.student.getEmail()))) {
+                errors.add(new RowError(row.source, row.lineNumber,
+                        "Email already exists: " + row.student.getEmail()));
+                continue;
+            }
+            pending.add(row);
+        }
+
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        hashPasswords(pending);
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+                for (ImportRow row : pending) {
+                    bindStudent(pstmt, row.student);
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+                conn.commit();
+                for (ImportRow row : pending) {
+                    recordImported(row.student);
+                }
+                return pending.size();
+            } catch (SQLException e) {
+                conn.rollback();
+                System.err.println("⚠️ Batch insert failed, retrying chunk row by row: " + e.getMessage());
+                return insertRowByRow(conn, pending, errors);
+            }
+        }
+    }
+
+    /**
+     * Fallback for a failed batch: inserts rows one at a time so the offending rows can be reported
+     */
+    private int insertRowByRow(Connection conn, List<ImportRow> rows, List<RowError> errors) throws SQLException {
+        List<Student> inserted = new ArrayList<>(rows.size());
+
+        try (PreparedStatement pstmt = conn.prepareStatement(INSERT_SQL)) {
+            for (ImportRow row : rows) {
+                try {
+                    bindStudent(pstmt, row.student);
+                    pstmt.executeUpdate();
+                    inserted.add(row.student);
+                } catch (SQLException e) {
+                    errors.add(new RowError(row.source, row.lineNumber, e.getMessage()));
+                }
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        }
+
+        for (Student student : inserted) {
+            recordImported(student);
+        }
+        return inserted.size();
+    }
+
+    /**
+     * Returns the normalized emails of the chunk that already exist in the database
+     */
+    private Set<String> findExistingEmails(Connection conn, List<ImportRow> chunk) throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT email FROM students WHERE email IN (");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "?" : ",?");
+        }
+        sql.append(')');
+
+        Set<String> existing = new HashSet<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            for (int i = 0; i < chunk.size(); i++) {
+                pstmt.setString(i + 1, chunk.get(i).student.getEmail());
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    existing.add(normalizeEmail(rs.getString("email")));
+                }
+            }
+        }
+        return existing;
+    }
+
+    /**
+     * Feeds a committed row to the in-memory email filter and search index
+     */
+    private void recordImported(Student student) {
+        emailFilter.add(student.getEmail());
+        searchIndex.put(StudentSummary.of(student.getStudentId(), student));
+    }
+
+    private void bindStudent(PreparedStatement pstmt, Student student) throws SQLException {
+        // A row retried after a failed batch keeps the ID it was given the first time
+        long id;
+        if (student.getStudentId() == null) {
+            id = StudentIdGenerator.getInstance().nextId();
+            student.setStudentId(StudentIdGenerator.format(id));
+        } else {
+            id = StudentIdGenerator.getInstance().keyFor(student.getStudentId());
+        }
+        pstmt.setLong(1, id);
+        pstmt.setString(2, student.getStudentId());
+        pstmt.setString(3, student.getName());
+        pstmt.setString(4, student.getEmail());
+        pstmt.setString(5, student.getPassword());
+        pstmt.setInt(6, referenceData.idOf(ReferenceData.Kind.BRANCH, student.getBranch()));
+        pstmt.setInt(7, referenceData.idOf(ReferenceData.Kind.SEMESTER, student.getSemester()));
+        pstmt.setBoolean(8, student.isHostel());
+        pstmt.setString(9, student.getPhone());
+        pstmt.setString(10, UserRole.STUDENT.toString());
+    }
+
+    /**
+     * Parses a CSV or JSON file depending on its extension
+     */
+    private ParsedFile parseFile(File file) {
+        ParsedFile parsed = new ParsedFile();
+        String name = file.getName().toLowerCase(Locale.ROOT);
+
+        try {
+            if (name.endsWith(".json")) {
+                parseJson(file, parsed);
+            } else {
+                parseCsv(file, parsed);
+            }
+        } catch (IOException | RuntimeException e) {
+            parsed.errors.add(new RowError(file.getName(), 0, "Failed to read file: " + e.getMessage()));
+        }
+
+        return parsed;
+    }
+
+    /**
+     * Parses a CSV file with a header row naming the columns
+     */
+    private void parseCsv(File file, ParsedFile parsed) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                return;
+            }
+
+            List<String> header = parseCsvLine(headerLine);
+            Map<String, Integer> columnIndex = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columnIndex.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                List<String> values = parseCsvLine(line);
+                Map<String, String> fields = new HashMap<>();
+                for (String column : COLUMNS) {
+                    Integer index = columnIndex.get(column);
+                    if (index != null && index < values.size()) {
+                        fields.put(column, values.get(index));
+                    }
+                }
+                parsed.rows.add(new ImportRow(file.getName(), lineNumber, toStudent(fields)));
+            }
+        }
+    }
+
+    /**
+     * Splits a CSV line, honouring double-quoted fields and escaped quotes
+     */
+    private List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inQuotes = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (inQuotes) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    inQuotes = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * Streams a JSON array of student objects without building a DOM
+     */
+    private void parseJson(File file, ParsedFile parsed) throws IOException {
+        try (JsonReader reader = new JsonReader(Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8))) {
+            reader.beginArray();
+            int index = 0;
+
+            while (reader.hasNext()) {
+                index++;
+                Map<String, String> fields = new HashMap<>();
+
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String key = reader.nextName().toLowerCase(Locale.ROOT);
+                    JsonToken token = reader.peek();
+                    if (token == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else if (token == JsonToken.BOOLEAN) {
+                        fields.put(key, String.valueOf(reader.nextBoolean()));
+                    } else if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+                        fields.put(key, reader.nextString());
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+
+                parsed.rows.add(new ImportRow(file.getName(), index, toStudent(fields)));
+            }
+
+            reader.endArray();
+        }
+    }
+
+    private Student toStudent(Map<String, String> fields) {
+        Student student = new Student();
+        student.setName(trimmed(fields.get("name")));
+        student.setEmail(trimmed(fields.get("email")));
+        student.setPassword(trimmed(fields.get("password")));
+        student.setBranch(trimmed(fields.get("branch")));
+        student.setSemester(trimmed(fields.get("semester")));
+        student.setHostel(parseHostel(fields.get("hostel")));
+        student.setPhone(trimmed(fields.get("phone")));
+        student.setRole(UserRole.STUDENT);
+        return student;
+    }
+
+    /**
+     * Validates a parsed row using the same rules as the registration form
+     * @return error message or null if the row is valid
+     */
+    private String validate(Student student) {
+        if (isEmpty(student.getName()) || isEmpty(student.getEmail()) || isEmpty(student.getPassword()) ||
+                isEmpty(student.getBranch()) || isEmpty(student.getSemester()) || isEmpty(student.getPhone())) {
+            return "Missing required field";
+        }
+        if (!student.getEmail().matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$")) {
+            return "Invalid email: " + student.getEmail();
+        }
+        if (!student.getPhone().matches("\\d{10}")) {
+            return "Invalid phone number: " + student.getPhone();
+        }
+        if (PasswordHasher.isHash(student.getPassword()) && !PasswordHasher.isWellFormedHash(student.getPassword())) {
+            return "Malformed password hash";
+        }
+        return null;
+    }
+
+    /**
+     * Replaces branch and semester with their stored spellings
+     * Imports never add reference values, so a typo in a file cannot end up in every dropdown.
+     * @return error message or null if both are known
+     */
+    private String useStoredNames(Student student) {
+        String branch = referenceData.existingName(ReferenceData.Kind.BRANCH, student.getBranch());
+        if (branch == null) {
+            return "Unknown branch: " + student.getBranch();
+        }
+        String semester = referenceData.existingName(ReferenceData.Kind.SEMESTER, student.getSemester());
+        if (semester == null) {
+            return "Unknown semester: " + student.getSemester();
+        }
+        student.setBranch(branch);
+        student.setSemester(semester);
+        return null;
+    }
+
+    private boolean parseHostel(String value) {
+        if (value == null) {
+            return false;
+        }
+        String v = value.trim().toLowerCase(Locale.ROOT);
+        return v.equals("true") || v.equals("yes") || v.equals("y") || v.equals("1");
+    }
+
+    private String trimmed(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    private boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    private String normalizeEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
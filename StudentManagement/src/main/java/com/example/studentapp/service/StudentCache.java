@@ -0,0 +1,128 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.model.Student;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded read-through cache for students looked up by ID
+ * LRU eviction by size plus a time-to-live per entry. Writers invalidate entries,
+ * and a generation counter stops a lookup that raced with a write from caching stale data.
+ */
+public class StudentCache {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<String, CacheEntry> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private static class CacheEntry {
+        final Student student;
+        final long expiresAt;
+
+        CacheEntry(Student student, long expiresAt) {
+            this.student = student;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * @param maxSize maximum number of cached students
+     * @param ttlSeconds time-to-live of an entry in seconds
+     */
+    public StudentCache(int maxSize, long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                if (size() > StudentCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of the cached student, or null on a miss or expired entry
+     */
+    public synchronized Student get(String studentId) {
+        CacheEntry entry = entries.get(studentId);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (System.nanoTime() - entry.expiresAt > 0) {
+            entries.remove(studentId);
+            evictions.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return copyOf(entry.student);
+    }
+
+    /**
+     * Current write generation; capture it before loading from the database
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a loaded student unless a write happened since loadGeneration was captured
+     */
+    public synchronized void put(String studentId, Student student, long loadGeneration) {
+        if (student == null || maxSize <= 0 || generation.get() != loadGeneration) {
+            return;
+        }
+        entries.put(studentId, new CacheEntry(copyOf(student), System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * Drops a student after it was added, updated or deleted
+     */
+    public synchronized void invalidate(String studentId) {
+        generation.incrementAndGet();
+        entries.remove(studentId);
+    }
+
+    /**
+     * Drops every cached student
+     */
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public synchronized int size() { return entries.size(); }
+    public long getHits() { return hits.get(); }
+    public long getMisses() { return misses.get(); }
+    public long getEvictions() { return evictions.get(); }
+
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StudentCache{size=%d/%d, hits=%d, misses=%d, evictions=%d, hitRate=%.1f%%}",
+                size(), maxSize, getHits(), getMisses(), getEvictions(), getHitRate() * 100);
+    }
+
+    /**
+     * Callers may mutate the returned Student, so the cache never hands out its own instance
+     */
+    private Student copyOf(Student s) {
+        return new Student(s.getStudentId(), s.getName(), s.getEmail(), s.getPassword(),
+                s.getBranch(), s.getSemester(), s.isHostel(), s.getPhone(), s.getRole());
+    }
+}
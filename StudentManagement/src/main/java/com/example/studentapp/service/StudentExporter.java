@@ -0,0 +1,213 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.database.DatabaseConnection;
+import com.example.studentapp.database.DatabaseExecutors;
+import com.example.studentapp.database.DatabaseExecutors.OperationClass;
+import com.example.studentapp.database.MetricsRegistry;
+import com.example.studentapp.model.StudentSummary;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Streams the students table to CSV or JSON
+ * Uses a forward-only MySQL streaming cursor so rows are written as they arrive
+ * and the roster is never held in memory. Passwords are never exported.
+ * With an in-memory store the rows come from its ordered roster instead.
+ */
+public class StudentExporter {
+    private static final String[] COLUMNS = {
+            "student_id", "name", "email", "branch", "semester", "hostel", "phone", "role"
+    };
+    private static final String EXPORT_SQL =
+            "SELECT student_id, name, email, branch_id, semester_id, hostel, phone, role FROM students ORDER BY name, student_id";
+
+    /**
+     * Supported export formats
+     */
+    public enum Format {
+        CSV, JSON
+    }
+
+    /**
+     * Forward-only source of rows in COLUMNS order; hostel is "true" or "false"
+     */
+    private interface RowSource {
+        /** Next row, or null after the last one */
+        String[] next() throws SQLException;
+    }
+
+    private final InMemoryStudentRepository memoryStore;
+    private final ReferenceData referenceData;
+
+    /**
+     * @param referenceData dictionaries for the branch_id and semester_id keys
+     */
+    public StudentExporter(ReferenceData referenceData) {
+        this.memoryStore = null;
+        this.referenceData = referenceData;
+    }
+
+    /**
+     * Exporter reading from an in-memory store instead of the database
+     */
+    StudentExporter(InMemoryStudentRepository memoryStore) {
+        this.memoryStore = memoryStore;
+        this.referenceData = null;
+    }
+
+    /**
+     * Exports the roster to a file
+     * @return number of rows written
+     */
+    public CompletableFuture<Long> exportToFile(File file, Format format) {
+        return MetricsRegistry.track("exportStudents", CompletableFuture.supplyAsync(() -> {
+            try (OutputStream out = Files.newOutputStream(file.toPath())) {
+                return export(out, format);
+            } catch (IOException e) {
+                System.err.println("❌ Failed to export students: " + e.getMessage());
+                throw new RuntimeException("Failed to export students: " + e.getMessage(), e);
+            }
+        }, DatabaseExecutors.get(OperationClass.BULK)));
+    }
+
+    /**
+     * Streams the roster to the given stream; the caller owns and closes the stream
+     * @return number of rows written
+     */
+    public long export(OutputStream out, Format format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                new BufferedOutputStream(out), StandardCharsets.UTF_8));
+
+        if (memoryStore != null) {
+            Iterator<StudentSummary> students = memoryStore.summaries().iterator();
+            try {
+                return write(() -> students.hasNext() ? toRow(students.next()) : null, writer, format);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e); // Not thrown by the in-memory source
+            }
+        }
+
+        try (Connection conn = DatabaseConnection.getConnection();
+             PreparedStatement pstmt = conn.prepareStatement(EXPORT_SQL,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+
+            // Integer.MIN_VALUE switches Connector/J to row-by-row streaming
+            pstmt.setFetchSize(Integer.MIN_VALUE);
+
+            long rows;
+            try (ResultSet rs = pstmt.executeQuery()) {
+                rows = write(() -> rs.next() ? toRow(rs) : null, writer, format);
+            }
+            return rows;
+
+        } catch (SQLException e) {
+            System.err.println("❌ Failed to export students: " + e.getMessage());
+            throw new RuntimeException("Failed to export students: " + e.getMessage(), e);
+        }
+    }
+
+    private long write(RowSource source, Writer writer, Format format) throws SQLException, IOException {
+        long rows = format == Format.JSON ? writeJson(source, writer) : writeCsv(source, writer);
+        writer.flush();
+        return rows;
+    }
+
+    private String[] toRow(ResultSet rs) throws SQLException {
+        String[] row = new String[COLUMNS.length];
+        for (int i = 0; i < COLUMNS.length; i++) {
+            if ("hostel".equals(COLUMNS[i])) {
+                row[i] = String.valueOf(rs.getBoolean(i + 1));
+            } else if ("branch".equals(COLUMNS[i])) {
+                row[i] = referenceData.name(ReferenceData.Kind.BRANCH, rs.getInt(i + 1));
+            } else if ("semester".equals(COLUMNS[i])) {
+                row[i] = referenceData.name(ReferenceData.Kind.SEMESTER, rs.getInt(i + 1));
+            } else {
+                row[i] = rs.getString(i + 1);
+            }
+        }
+        return row;
+    }
+
+    private static String[] toRow(StudentSummary student) {
+        return new String[]{student.getStudentId(), student.getName(), student.getEmail(), student.getBranch(),
+                student.getSemester(), String.valueOf(student.isHostel()), student.getPhone(),
+                student.getRole() != null ? student.getRole().toString() : "STUDENT"};
+    }
+
+    private long writeCsv(RowSource source, Writer writer) throws SQLException, IOException {
+        writer.write(String.join(",", COLUMNS));
+        writer.write('\n');
+
+        long rows = 0;
+        String[] row;
+        while ((row = source.next()) != null) {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsvField(writer, row[i]);
+            }
+            writer.write('\n');
+            rows++;
+        }
+        return rows;
+    }
+
+    /**
+     * Writes a CSV field, quoting it only when needed
+     */
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean needsQuotes = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private long writeJson(RowSource source, Writer writer) throws SQLException, IOException {
+        JsonWriter json = new JsonWriter(writer);
+        json.beginArray();
+
+        long rows = 0;
+        String[] row;
+        while ((row = source.next()) != null) {
+            json.beginObject();
+            for (int i = 0; i < COLUMNS.length; i++) {
+                json.name(COLUMNS[i]);
+                if ("hostel".equals(COLUMNS[i])) {
+                    json.value(Boolean.parseBoolean(row[i]));
+                } else {
+                    json.value(row[i]);
+                }
+            }
+            json.endObject();
+            rows++;
+        }
+
+        json.endArray();
+        json.flush();
+        return rows;
+    }
+}
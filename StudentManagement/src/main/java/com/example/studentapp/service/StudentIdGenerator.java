@@ -0,0 +1,116 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.config.DatabaseConfig;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style 64-bit student IDs: 41 bits of milliseconds since 2024-01-01 UTC,
+ * 10 bits of node ID (student.id.node) and a 12-bit per-millisecond sequence
+ * IDs are strictly increasing per node without locks: the last issued timestamp and
+ * sequence live in one AtomicLong and each call CASes it forward. When 4096 IDs are
+ * taken within a millisecond, or the clock steps backwards, the generator runs on
+ * ahead of the clock instead of blocking or repeating an ID.
+ *
+ * The numeric ID is the students table's clustered key; "STU_" plus the ID in
+ * fixed-width base 36 is its display form, which sorts in the same order.
+ */
+public class StudentIdGenerator {
+    private static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String PREFIX = "STU_";
+    private static final int DISPLAY_DIGITS = 13; // Long.MAX_VALUE in base 36
+
+    private static StudentIdGenerator instance;
+
+    private final long nodeBits;
+    /** (millis since EPOCH << SEQUENCE_BITS) | sequence of the last ID issued */
+    private final AtomicLong lastTick = new AtomicLong();
+
+    public StudentIdGenerator(int node) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("student.id.node must be between 0 and " + MAX_NODE + ": " + node);
+        }
+        this.nodeBits = (long) node << SEQUENCE_BITS;
+    }
+
+    /**
+     * Shared generator for this process, using the configured node ID
+     */
+    public static synchronized StudentIdGenerator getInstance() {
+        if (instance == null) {
+            instance = new StudentIdGenerator(DatabaseConfig.getStudentIdNode());
+        }
+        return instance;
+    }
+
+    /**
+     * Next numeric ID
+     */
+    public long nextId() {
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long last, next;
+        do {
+            last = lastTick.get();
+            next = Math.max(now, last + 1);
+        } while (!lastTick.compareAndSet(last, next));
+
+        long millis = next >>> SEQUENCE_BITS;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    /**
+     * Next ID in display form
+     */
+    public String nextStudentId() {
+        return format(nextId());
+    }
+
+    /**
+     * Display form of a numeric ID, e.g. STU_00ABC123XYZ45
+     */
+    public static String format(long id) {
+        String digits = Long.toString(id, 36).toUpperCase(Locale.ROOT);
+        StringBuilder display = new StringBuilder(PREFIX.length() + DISPLAY_DIGITS).append(PREFIX);
+        for (int i = digits.length(); i < DISPLAY_DIGITS; i++) {
+            display.append('0');
+        }
+        return display.append(digits).toString();
+    }
+
+    /**
+     * Numeric ID behind a display ID
+     * @return the ID, or -1 for IDs this generator did not produce (e.g. STU_&lt;millis&gt;_&lt;n&gt;)
+     */
+    public static long parse(String studentId) {
+        if (studentId == null || studentId.length() != PREFIX.length() + DISPLAY_DIGITS
+                || !studentId.startsWith(PREFIX)) {
+            return -1;
+        }
+        for (int i = PREFIX.length(); i < studentId.length(); i++) {
+            char c = studentId.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'A' && c <= 'Z')) {
+                return -1;
+            }
+        }
+        try {
+            return Long.parseLong(studentId.substring(PREFIX.length()), 36);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Clustered key for a row with the given display ID: the encoded ID when there is
+     * one, otherwise a fresh ID (rows imported with a legacy-format student_id)
+     */
+    public long keyFor(String studentId) {
+        long id = parse(studentId);
+        return id >= 0 ? id : nextId();
+    }
+}
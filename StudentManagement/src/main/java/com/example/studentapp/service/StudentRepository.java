@@ -0,0 +1,109 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.model.Admin;
+import com.example.studentapp.model.Student;
+import com.example.studentapp.model.StudentDelta;
+import com.example.studentapp.model.StudentQuery;
+import com.example.studentapp.model.StudentSummary;
+
+import java.io.File;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Storage for students and admins, as used by StudentController
+ * MySQLService is the JDBC implementation; InMemoryStudentRepository keeps the roster
+ * in memory with periodic snapshots to disk. store.mode in database.properties picks one.
+ */
+public interface StudentRepository {
+
+    /**
+     * Authenticates an admin; completes with null for wrong credentials
+     */
+    CompletableFuture<Admin> authenticateAdmin(String username, String password);
+
+    /**
+     * Authenticates a student; completes with null for wrong credentials
+     */
+    CompletableFuture<Student> authenticateStudent(String email, String password);
+
+    /**
+     * Every student with all columns, ordered by name
+     */
+    CompletableFuture<List<Student>> getAllStudents();
+
+    /**
+     * One page of summaries after the (name, studentId) cursor; null cursor values start at the top
+     */
+    CompletableFuture<List<StudentSummary>> getStudentsPage(String afterName, String afterStudentId, int limit);
+
+    /**
+     * Filtered, keyset-paged summaries ordered by (name, studentId)
+     */
+    CompletableFuture<List<StudentSummary>> searchStudents(StudentQuery query);
+
+    /**
+     * Students changed or deleted since the watermark; null only obtains the current watermark
+     */
+    CompletableFuture<StudentDelta> getStudentsModifiedSince(Timestamp watermark);
+
+    /**
+     * A student by ID, or null if there is none
+     */
+    CompletableFuture<Student> getStudentById(String studentId);
+
+    /**
+     * Adds a student and completes with the generated ID
+     * Fails with DuplicateEmailException if the email is taken
+     */
+    CompletableFuture<String> addStudent(Student student);
+
+    /**
+     * Updates a student; a blank password keeps the current one
+     * Fails with DuplicateEmailException if the new email belongs to another student
+     */
+    CompletableFuture<Void> updateStudent(String studentId, Student student);
+
+    /**
+     * Deletes a student, recording it for delta refreshes
+     */
+    CompletableFuture<Void> deleteStudent(String studentId);
+
+    /**
+     * True if another student (not excludeStudentId) uses the email
+     */
+    CompletableFuture<Boolean> emailExists(String email, String excludeStudentId);
+
+    /**
+     * Imports students in bulk from CSV/JSON files
+     */
+    CompletableFuture<StudentBulkImporter.ImportResult> importStudents(
+            List<File> files, StudentBulkImporter.ProgressListener listener);
+
+    /**
+     * Writes the whole roster to a CSV or JSON file
+     * @return number of rows written
+     */
+    CompletableFuture<Long> exportStudents(File file, StudentExporter.Format format);
+
+    /**
+     * Branch or semester names for the forms' dropdowns, in display order
+     */
+    CompletableFuture<List<String>> getReferenceValues(ReferenceData.Kind kind);
+
+    /**
+     * Creates the default admin account if it does not exist
+     */
+    void createDefaultAdmin();
+
+    /**
+     * In-memory type-ahead index over name, email and phone
+     */
+    StudentSearchIndex getSearchIndex();
+
+    /**
+     * Columnar roster analytics engine
+     */
+    RosterAnalytics getRosterAnalytics();
+}
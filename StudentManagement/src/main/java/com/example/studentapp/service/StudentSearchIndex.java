@@ -0,0 +1,373 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.model.StudentSummary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram index over student name, email and phone for type-ahead search
+ * Documents get increasing int IDs so every posting list stays sorted and queries
+ * intersect them lazily, stopping as soon as enough matches are found. A sorted name
+ * map serves name-prefix matches, which rank first. Updates and deletes tombstone
+ * the old document; the index compacts itself once tombstones pile up.
+ */
+public class StudentSearchIndex {
+    private static final int MIN_GRAM = 3;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private final Map<String, Integer> docIdByStudentId = new HashMap<>();
+    private final TreeMap<String, IntList> docIdsByName = new TreeMap<>();
+    private final Set<String> removedWhileLoading = new HashSet<>();
+    private final List<StudentSummary> docs = new ArrayList<>();
+    private final List<String> searchTexts = new ArrayList<>();
+    private int liveDocs;
+    private volatile boolean ready;
+
+    /**
+     * Growable int array used for posting lists
+     */
+    private static class IntList {
+        int[] values = new int[4];
+        int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+
+    /**
+     * Result of a type-ahead query
+     */
+    public static class SearchResult {
+        private final List<StudentSummary> matches;
+        private final long elapsedNanos;
+
+        SearchResult(List<StudentSummary> matches, long elapsedNanos) {
+            this.matches = matches;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public List<StudentSummary> getMatches() { return matches; }
+        public double getElapsedMillis() { return elapsedNanos / 1_000_000.0; }
+    }
+
+    /**
+     * Adds or replaces a student after a write
+     */
+    public void put(StudentSummary student) {
+        lock.writeLock().lock();
+        try {
+            removedWhileLoading.remove(student.getStudentId());
+            removeLocked(student.getStudentId());
+            addLocked(student);
+            compactIfSparseLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a student read by the initial load unless a write already indexed or removed it
+     */
+    public void putIfAbsent(StudentSummary student) {
+        lock.writeLock().lock();
+        try {
+            if (!docIdByStudentId.containsKey(student.getStudentId())
+                    && !removedWhileLoading.contains(student.getStudentId())) {
+                addLocked(student);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a deleted student
+     */
+    public void remove(String studentId) {
+        lock.writeLock().lock();
+        try {
+            if (!ready) {
+                removedWhileLoading.add(studentId);
+            }
+            removeLocked(studentId);
+            compactIfSparseLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks the initial load as complete
+     */
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            ready = true;
+            removedWhileLoading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Finds students whose name, email or phone contains the text
+     * Name-prefix matches rank first, then other matches in insertion order.
+     * Queries shorter than three characters only match name prefixes.
+     */
+    public SearchResult search(String text, int limit) {
+        long start = System.nanoTime();
+        String query = normalize(text);
+        List<StudentSummary> matches = new ArrayList<>(limit);
+        if (query.isEmpty()) {
+            return new SearchResult(matches, System.nanoTime() - start);
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<Integer> added = new HashSet<>();
+
+            // Name prefixes straight from the sorted name map
+            for (IntList ids : docIdsByName.subMap(query, true, query + Character.MAX_VALUE, false).values()) {
+                for (int i = 0; i < ids.size && matches.size() < limit; i++) {
+                    StudentSummary student = docs.get(ids.values[i]);
+                    if (student != null && added.add(ids.values[i])) {
+                        matches.add(student);
+                    }
+                }
+                if (matches.size() >= limit) {
+                    break;
+                }
+            }
+
+            if (matches.size() < limit && query.length() >= MIN_GRAM) {
+                collectSubstringMatchesLocked(query, limit, matches, added);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return new SearchResult(matches, System.nanoTime() - start);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rough heap footprint of the index (postings, search texts, map entries)
+     */
+    public long estimateMemoryBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (IntList list : postings.values()) {
+                bytes += 16 + 16 + list.values.length * 4L; // IntList + array header + slots
+                bytes += 32 + 16;                            // HashMap node + boxed Long key
+            }
+            for (String text : searchTexts) {
+                if (text != null) {
+                    bytes += 40 + text.length(); // String + compact Latin-1 array
+                }
+            }
+            bytes += docIdByStudentId.size() * 48L;
+            bytes += docIdsByName.size() * 120L; // TreeMap entry + key String + IntList
+            bytes += docs.size() * 8L;
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StudentSearchIndex{docs=%d, grams=%d, memory=%.1f MB, ready=%s}",
+                size(), postings.size(), estimateMemoryBytes() / (1024.0 * 1024.0), ready);
+    }
+
+    private void addLocked(StudentSummary student) {
+        int docId = docs.size();
+        String searchText = buildSearchText(student);
+        docs.add(student);
+        searchTexts.add(searchText);
+        docIdByStudentId.put(student.getStudentId(), docId);
+        docIdsByName.computeIfAbsent(normalize(student.getName()), k -> new IntList()).add(docId);
+        liveDocs++;
+
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i + MIN_GRAM <= searchText.length(); i++) {
+            long gram = gram(searchText, i);
+            if (gram >= 0 && seen.add(gram)) {
+                postings.computeIfAbsent(gram, k -> new IntList()).add(docId);
+            }
+        }
+    }
+
+    private void removeLocked(String studentId) {
+        Integer docId = docIdByStudentId.remove(studentId);
+        if (docId != null) {
+            String name = normalize(docs.get(docId).getName());
+            IntList ids = docIdsByName.get(name);
+            if (ids != null) {
+                removeValue(ids, docId);
+                if (ids.size == 0) {
+                    docIdsByName.remove(name);
+                }
+            }
+            docs.set(docId, null);
+            searchTexts.set(docId, null);
+            liveDocs--;
+        }
+    }
+
+    /**
+     * Compacts once at least half of a sizeable index is tombstones; updates tombstone too,
+     * so this runs after every put as well as every remove
+     */
+    private void compactIfSparseLocked() {
+        if (docs.size() > 1024 && liveDocs < docs.size() / 2) {
+            compactLocked();
+        }
+    }
+
+    /**
+     * Rebuilds postings without tombstoned documents
+     */
+    private void compactLocked() {
+        List<StudentSummary> live = new ArrayList<>(liveDocs);
+        for (StudentSummary student : docs) {
+            if (student != null) {
+                live.add(student);
+            }
+        }
+        postings.clear();
+        docIdByStudentId.clear();
+        docIdsByName.clear();
+        docs.clear();
+        searchTexts.clear();
+        liveDocs = 0;
+        for (StudentSummary student : live) {
+            addLocked(student);
+        }
+    }
+
+    /**
+     * Walks the smallest posting list and probes the others, verifying each candidate
+     * against the stored text; stops once the result list is full
+     */
+    private void collectSubstringMatchesLocked(String query, int limit, List<StudentSummary> matches, Set<Integer> added) {
+        List<IntList> lists = new ArrayList<>();
+        for (int i = 0; i + MIN_GRAM <= query.length(); i++) {
+            IntList list = postings.get(gram(query, i));
+            if (list == null) {
+                return;
+            }
+            lists.add(list);
+        }
+
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+        IntList driver = lists.get(0);
+        int[] cursors = new int[lists.size()];
+
+        for (int d = 0; d < driver.size && matches.size() < limit; d++) {
+            int docId = driver.values[d];
+
+            boolean inAll = true;
+            for (int l = 1; l < lists.size() && inAll; l++) {
+                IntList other = lists.get(l);
+                cursors[l] = advance(other, cursors[l], docId);
+                inAll = cursors[l] < other.size && other.values[cursors[l]] == docId;
+            }
+            if (!inAll) {
+                continue;
+            }
+
+            StudentSummary student = docs.get(docId);
+            if (student != null && !added.contains(docId) && searchTexts.get(docId).contains(query)) {
+                added.add(docId);
+                matches.add(student);
+            }
+        }
+    }
+
+    /**
+     * Galloping search for the first position at or after from whose value is >= target
+     */
+    private static int advance(IntList list, int from, int target) {
+        int step = 1;
+        int low = from;
+        int high = from;
+        while (high < list.size && list.values[high] < target) {
+            low = high + 1;
+            high += step;
+            step <<= 1;
+        }
+        high = Math.min(high, list.size);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (list.values[mid] < target) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Packs three chars into a long key; -1 if the gram spans a field separator
+     */
+    private static long gram(String text, int offset) {
+        char a = text.charAt(offset);
+        char b = text.charAt(offset + 1);
+        char c = text.charAt(offset + 2);
+        if (a == '\n' || b == '\n' || c == '\n') {
+            return -1;
+        }
+        return ((long) a << 32) | ((long) b << 16) | c;
+    }
+
+    /**
+     * Name, email and phone joined by newlines (which never occur inside a query)
+     */
+    private static String buildSearchText(StudentSummary student) {
+        return normalize(student.getName()) + '\n' + normalize(student.getEmail()) + '\n' + normalize(student.getPhone());
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT).replace('\n', ' ');
+    }
+
+    private static void removeValue(IntList list, int value) {
+        for (int i = 0; i < list.size; i++) {
+            if (list.values[i] == value) {
+                System.arraycopy(list.values, i + 1, list.values, i, list.size - i - 1);
+                list.size--;
+                return;
+            }
+        }
+    }
+}
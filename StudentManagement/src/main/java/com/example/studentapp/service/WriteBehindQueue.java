@@ -0,0 +1,266 @@
+package com.example.studentapp.service;
+
+import com.example.studentapp.database.DatabaseConnection;
+import com.example.studentapp.model.Student;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * Write-behind queue for student updates
+ * Updates are held per student_id for up to one window; a later edit of the same row
+ * replaces the queued one, so a burst of edits costs one UPDATE. Each flush sends every
+ * queued row as one JDBC batch in a single transaction. Callers' futures complete only
+ * after that commit, so an acknowledged update is durable; if the batch fails, rows are
+ * retried one by one so a bad row (e.g. a duplicate email) fails alone.
+ * When maxPending rows are queued, new rows are rejected until the next flush.
+ */
+public class WriteBehindQueue {
+    private static final String UPDATE_SQL = """
+        UPDATE students
+        SET name = ?, email = ?, password = COALESCE(?, password), branch_id = ?, semester_id = ?, hostel = ?, phone = ?, role = ?
+        WHERE student_id = ?
+    """;
+
+    /**
+     * Latest queued state of one row and everyone waiting for it
+     */
+    private static class PendingUpdate {
+        final String studentId;
+        Student student;
+        String passwordHash;
+        final List<CompletableFuture<Void>> waiters = new ArrayList<>(1);
+
+        PendingUpdate(String studentId) {
+            this.studentId = studentId;
+        }
+    }
+
+    private final long windowMillis;
+    private final int maxPending;
+    private final ReferenceData referenceData;
+    private final BiConsumer<String, Student> afterCommit;
+    private final ScheduledExecutorService flusher;
+
+    private Map<String, PendingUpdate> pending = new LinkedHashMap<>();
+    private boolean closed;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicLong acknowledged = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * @param windowMillis how long an update may wait for more edits before it is flushed
+     * @param maxPending distinct rows that may be queued before new rows are rejected
+     * @param referenceData dictionaries that already hold every queued branch and semester
+     * @param afterCommit called for each row once its update has committed
+     */
+    public WriteBehindQueue(long windowMillis, int maxPending, ReferenceData referenceData,
+                            BiConsumer<String, Student> afterCommit) {
+        this.windowMillis = windowMillis;
+        this.maxPending = maxPending;
+        this.referenceData = referenceData;
+        this.afterCommit = afterCommit;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "db-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues an update, coalescing with one already queued for the same student
+     * @param passwordHash new password hash, or null to keep the current one
+     * @return completes once the update has committed
+     */
+    public CompletableFuture<Void> enqueue(String studentId, Student student, String passwordHash) {
+        CompletableFuture<Void> committed = new CompletableFuture<>();
+        Student snapshot = new Student(studentId, student.getName(), student.getEmail(), null, student.getBranch(),
+                student.getSemester(), student.isHostel(), student.getPhone(), student.getRole());
+
+        synchronized (this) {
+            if (closed) {
+                throw new RejectedExecutionException("Write-behind queue is closed");
+            }
+            PendingUpdate update = pending.get(studentId);
+            if (update == null) {
+                if (pending.size() >= maxPending) {
+                    rejected.incrementAndGet();
+                    flusher.execute(this::flush);
+                    throw new RejectedExecutionException("Write-behind queue is full (" + maxPending
+                            + " students pending), please try again");
+                }
+                update = new PendingUpdate(studentId);
+                pending.put(studentId, update);
+            } else {
+                coalesced.incrementAndGet();
+            }
+            update.student = snapshot;
+            if (passwordHash != null) {
+                update.passwordHash = passwordHash;
+            }
+            update.waiters.add(committed);
+        }
+        enqueued.incrementAndGet();
+        return committed;
+    }
+
+    /**
+     * Writes everything queued so far; runs on the flusher thread
+     */
+    private void flush() {
+        Map<String, PendingUpdate> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+        List<PendingUpdate> updates = new ArrayList<>(batch.values());
+
+        try (Connection conn = DatabaseConnection.getConnection()) {
+            conn.setAutoCommit(false);
+            int[] counts;
+            try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+                for (PendingUpdate update : updates) {
+                    bind(pstmt, update);
+                    pstmt.addBatch();
+                }
+                counts = pstmt.executeBatch();
+                conn.commit();
+                commits.incrementAndGet();
+            } catch (SQLException e) {
+                conn.rollback();
+                System.err.println("⚠️ Write-behind batch failed, retrying row by row: " + e.getMessage());
+                flushRowByRow(conn, updates);
+                return;
+            }
+
+            flushedRows.addAndGet(updates.size());
+            for (int i = 0; i < updates.size(); i++) {
+                complete(updates.get(i), counts[i] == 0 ? notFound(updates.get(i)) : null);
+            }
+        } catch (SQLException | RuntimeException | Error e) {
+            // Any waiter not completed yet must still hear back, or its caller would hang
+            System.err.println("❌ Write-behind flush failed: " + e);
+            RuntimeException failure = new RuntimeException("Failed to update student: " + e.getMessage(), e);
+            for (PendingUpdate update : updates) {
+                complete(update, failure);
+            }
+        }
+    }
+
+    /**
+     * Fallback for a failed batch: one transaction per row so each row succeeds or fails on its own
+     */
+    private void flushRowByRow(Connection conn, List<PendingUpdate> updates) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(UPDATE_SQL)) {
+            for (PendingUpdate update : updates) {
+                RuntimeException failure = null;
+                try {
+                    bind(pstmt, update);
+                    int affectedRows = pstmt.executeUpdate();
+                    conn.commit();
+                    commits.incrementAndGet();
+                    flushedRows.incrementAndGet();
+                    if (affectedRows == 0) {
+                        failure = notFound(update);
+                    }
+                } catch (SQLException e) {
+                    conn.rollback();
+                    failure = e.getErrorCode() == DuplicateEmailException.MYSQL_DUPLICATE_ENTRY
+                            ? new DuplicateEmailException(update.student.getEmail(), e)
+                            : new RuntimeException("Failed to update student: " + e.getMessage(), e);
+                }
+                complete(update, failure);
+            }
+        }
+    }
+
+    private void bind(PreparedStatement pstmt, PendingUpdate update) throws SQLException {
+        Student student = update.student;
+        pstmt.setString(1, student.getName());
+        pstmt.setString(2, student.getEmail());
+        pstmt.setString(3, update.passwordHash);
+        pstmt.setInt(4, referenceData.idOf(ReferenceData.Kind.BRANCH, student.getBranch()));
+        pstmt.setInt(5, referenceData.idOf(ReferenceData.Kind.SEMESTER, student.getSemester()));
+        pstmt.setBoolean(6, student.isHostel());
+        pstmt.setString(7, student.getPhone());
+        pstmt.setString(8, student.getRole() != null ? student.getRole().toString() : "STUDENT");
+        pstmt.setString(9, update.studentId);
+    }
+
+    private void complete(PendingUpdate update, RuntimeException failure) {
+        if (failure == null) {
+            afterCommit.accept(update.studentId, update.student);
+        }
+        for (CompletableFuture<Void> waiter : update.waiters) {
+            if (failure == null) {
+                acknowledged.incrementAndGet();
+                waiter.complete(null);
+            } else {
+                waiter.completeExceptionally(failure);
+            }
+        }
+    }
+
+    private static RuntimeException notFound(PendingUpdate update) {
+        return new RuntimeException("Student not found with ID: " + update.studentId);
+    }
+
+    /**
+     * Stops accepting updates and writes whatever is queued; called on shutdown
+     */
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(windowMillis + 30_000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    public synchronized int getPendingRows() { return pending.size(); }
+    public long getEnqueued() { return enqueued.get(); }
+    public long getCoalesced() { return coalesced.get(); }
+    public long getFlushedRows() { return flushedRows.get(); }
+    public long getCommits() { return commits.get(); }
+    public long getRejected() { return rejected.get(); }
+
+    /**
+     * Commits avoided compared with one autocommit UPDATE per successful call
+     */
+    public long getCommitsSaved() {
+        return Math.max(0, acknowledged.get() - commits.get());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WriteBehindQueue{enqueued=%d, coalesced=%d, rows=%d, commits=%d, saved=%d, rejected=%d}",
+                getEnqueued(), getCoalesced(), getFlushedRows(), getCommits(), getCommitsSaved(), getRejected());
+    }
+}
@@ -3,14 +3,28 @@ package com.example.studentapp.view;
 import com.example.studentapp.controller.StudentController;
 import com.example.studentapp.model.Admin;
 import com.example.studentapp.model.Student;
+import com.example.studentapp.model.StudentDelta;
+import com.example.studentapp.model.StudentQuery;
+import com.example.studentapp.model.StudentSummary;
 import com.example.studentapp.model.UserRole;
+import com.example.studentapp.service.CompactRoster;
 import com.example.studentapp.service.QRCodeService;
+import com.example.studentapp.service.RosterSnapshot;
+import com.example.studentapp.service.StudentBulkImporter;
+import com.example.studentapp.service.StudentExporter;
+import com.example.studentapp.service.StudentSearchIndex;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.File;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 
@@ -20,16 +34,49 @@ import java.util.concurrent.ExecutionException;
  * Student: Read-only access to own profile only
  */
 public class DashboardFrame extends JFrame {
+    private static final int PAGE_SIZE = 500;
+    private static final int QUICK_FIND_LIMIT = 50;
+    private static final int QUICK_FIND_DEBOUNCE_MS = 150;
+
     private StudentController controller;
     private QRCodeService qrCodeService;
     private Admin admin;
     private Student student;
     private JTable studentTable;
-    private DefaultTableModel tableModel;
-    private JButton addButton, editButton, deleteButton, refreshButton, logoutButton, qrCodeButton;
+    private StudentTableModel tableModel;
+    private JButton addButton, editButton, deleteButton, refreshButton, logoutButton, qrCodeButton, loadMoreButton, importButton;
+    private String lastLoadedName, lastLoadedId;
+    private boolean hasMorePages;
+    private Timestamp deltaWatermark;
+    private StudentQuery currentQuery = new StudentQuery();
+    private JTextField branchFilterField, semesterFilterField, namePrefixFilterField, emailDomainFilterField;
+    private JComboBox<String> hostelFilterComboBox, roleFilterComboBox;
+    private JTextField quickFindField;
+    private Timer quickFindTimer;
+    private RosterBeforeQuickFind rosterBeforeQuickFind;
+    private JLabel adminStatusLabel;
     private JLabel userInfoLabel;
     private JPanel mainPanel;
 
+    /**
+     * The loaded roster and its paging state, kept while quick find matches are shown
+     */
+    private static final class RosterBeforeQuickFind {
+        final StudentTableModel.SetAside rows;
+        final Timestamp watermark;
+        final String lastLoadedName, lastLoadedId;
+        final boolean hasMorePages;
+
+        RosterBeforeQuickFind(StudentTableModel.SetAside rows, Timestamp watermark,
+                              String lastLoadedName, String lastLoadedId, boolean hasMorePages) {
+            this.rows = rows;
+            this.watermark = watermark;
+            this.lastLoadedName = lastLoadedName;
+            this.lastLoadedId = lastLoadedId;
+            this.hasMorePages = hasMorePages;
+        }
+    }
+
     /**
      * Constructor for role-based dashboard
      * @param admin Admin user (null if student)
@@ -43,7 +90,9 @@ public class DashboardFrame extends JFrame {
         initializeUI();
 
         if (isAdmin()) {
-            loadAllStudents();
+            if (!restoreRosterSnapshot()) {
+                loadAllStudents();
+            }
         } else {
             loadStudentProfile();
         }
@@ -69,6 +118,12 @@ public class DashboardFrame extends JFrame {
     private void initializeUI() {
         setTitle("Student Management System - " + (isAdmin() ? "Admin Dashboard" : "Student Portal"));
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                saveRosterSnapshot();
+            }
+        });
         setSize(900, 600);
         setLocationRelativeTo(null);
 
@@ -83,6 +138,7 @@ public class DashboardFrame extends JFrame {
         if (isAdmin()) {
             // Admin view: Full dashboard with CRUD operations
             setupAdminView(mainPanel);
+            setJMenuBar(createAdminMenuBar());
         } else {
             // Student view: Personal profile only
             setupStudentView(mainPanel);
@@ -172,6 +228,9 @@ public class DashboardFrame extends JFrame {
         deleteButton = createButton("Delete Student", new Color(220, 53, 69));
         refreshButton = createButton("Refresh", new Color(108, 117, 125));
         qrCodeButton = createButton("Generate QR Code", new Color(0, 123, 255));
+        loadMoreButton = createButton("Load More", new Color(23, 162, 184));
+        loadMoreButton.setEnabled(false);
+        importButton = createButton("Import Students", new Color(111, 66, 193));
 
         // ADD EXTRA LOGOUT BUTTON FOR ADMIN IN BUTTON PANEL
         JButton adminLogoutBtn = createButton("Logout", new Color(220, 53, 69));
@@ -182,9 +241,14 @@ public class DashboardFrame extends JFrame {
         buttonPanel.add(deleteButton);
         buttonPanel.add(refreshButton);
         buttonPanel.add(qrCodeButton);
+        buttonPanel.add(loadMoreButton);
+        buttonPanel.add(importButton);
         buttonPanel.add(adminLogoutBtn); // ADD EXTRA LOGOUT BUTTON
 
-        mainPanel.add(buttonPanel, BorderLayout.NORTH);
+        JPanel toolbarPanel = new JPanel(new BorderLayout());
+        toolbarPanel.add(buttonPanel, BorderLayout.NORTH);
+        toolbarPanel.add(createFilterPanel(), BorderLayout.SOUTH);
+        mainPanel.add(toolbarPanel, BorderLayout.NORTH);
 
         // Table setup for admin
         setupStudentTable();
@@ -193,17 +257,184 @@ public class DashboardFrame extends JFrame {
         mainPanel.add(scrollPane, BorderLayout.CENTER);
 
         // Status label for admin
-        JLabel statusLabel = new JLabel("Admin View: You can view, add, edit, and delete all student records");
-        statusLabel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
-        statusLabel.setFont(new Font("Arial", Font.ITALIC, 12));
-        statusLabel.setBackground(Color.LIGHT_GRAY);
-        statusLabel.setOpaque(true);
-        mainPanel.add(statusLabel, BorderLayout.SOUTH);
+        adminStatusLabel = new JLabel("Admin View: You can view, add, edit, and delete all student records");
+        adminStatusLabel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        adminStatusLabel.setFont(new Font("Arial", Font.ITALIC, 12));
+        adminStatusLabel.setBackground(Color.LIGHT_GRAY);
+        adminStatusLabel.setOpaque(true);
+        mainPanel.add(adminStatusLabel, BorderLayout.SOUTH);
 
         // Add action listeners for admin
         setupAdminEventListeners();
     }
 
+    /**
+     * Creates the filter toolbar for server-side search (admin only)
+     */
+    private JPanel createFilterPanel() {
+        JPanel filterPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 5));
+        filterPanel.setBorder(BorderFactory.createEmptyBorder(0, 10, 0, 10));
+
+        namePrefixFilterField = new JTextField(10);
+        emailDomainFilterField = new JTextField(10);
+        branchFilterField = new JTextField(8);
+        semesterFilterField = new JTextField(4);
+        hostelFilterComboBox = new JComboBox<>(new String[]{"Any", "Yes", "No"});
+        roleFilterComboBox = new JComboBox<>(new String[]{"Any", UserRole.STUDENT.toString(), UserRole.ADMIN.toString()});
+
+        JButton searchButton = new JButton("Search");
+        searchButton.addActionListener(e -> applyFilters());
+        JButton clearButton = new JButton("Clear");
+        clearButton.addActionListener(e -> clearFilters());
+
+        // Quick find runs against the in-memory index once typing pauses
+        quickFindField = new JTextField(12);
+        quickFindField.setToolTipText("Find by name, email or phone as you type");
+        quickFindTimer = new Timer(QUICK_FIND_DEBOUNCE_MS, e -> runQuickFind());
+        quickFindTimer.setRepeats(false);
+        quickFindField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            public void insertUpdate(javax.swing.event.DocumentEvent e) { quickFindTimer.restart(); }
+            public void removeUpdate(javax.swing.event.DocumentEvent e) { quickFindTimer.restart(); }
+            public void changedUpdate(javax.swing.event.DocumentEvent e) { quickFindTimer.restart(); }
+        });
+
+        // Enter in any filter field runs the search
+        ActionListener enterKeyListener = e -> applyFilters();
+        namePrefixFilterField.addActionListener(enterKeyListener);
+        emailDomainFilterField.addActionListener(enterKeyListener);
+        branchFilterField.addActionListener(enterKeyListener);
+        semesterFilterField.addActionListener(enterKeyListener);
+
+        filterPanel.add(new JLabel("Quick find:"));
+        filterPanel.add(quickFindField);
+        filterPanel.add(new JLabel("Name starts with:"));
+        filterPanel.add(namePrefixFilterField);
+        filterPanel.add(new JLabel("Email domain:"));
+        filterPanel.add(emailDomainFilterField);
+        filterPanel.add(new JLabel("Branch:"));
+        filterPanel.add(branchFilterField);
+        filterPanel.add(new JLabel("Semester:"));
+        filterPanel.add(semesterFilterField);
+        filterPanel.add(new JLabel("Hostel:"));
+        filterPanel.add(hostelFilterComboBox);
+        filterPanel.add(new JLabel("Role:"));
+        filterPanel.add(roleFilterComboBox);
+        filterPanel.add(searchButton);
+        filterPanel.add(clearButton);
+
+        return filterPanel;
+    }
+
+    /**
+     * Shows the top matches from the in-memory index; an empty box restores the paged roster
+     */
+    private void runQuickFind() {
+        String text = quickFindField.getText().trim();
+        if (text.isEmpty()) {
+            endQuickFind();
+            return;
+        }
+
+        StudentSearchIndex.SearchResult result = controller.quickSearch(text, QUICK_FIND_LIMIT);
+        if (rosterBeforeQuickFind == null) {
+            rosterBeforeQuickFind = new RosterBeforeQuickFind(tableModel.setAside(), deltaWatermark,
+                    lastLoadedName, lastLoadedId, hasMorePages);
+        }
+        deltaWatermark = null; // quick find rows are not in roster order, so the next refresh reloads
+        tableModel.clear();
+        updateTable(result.getMatches());
+        loadMoreButton.setEnabled(false);
+
+        adminStatusLabel.setText(String.format("Quick find: %d matches for \"%s\" in %.2f ms%s",
+                result.getMatches().size(), text, result.getElapsedMillis(),
+                controller.isQuickSearchReady() ? "" : " (index still loading, results may be incomplete)"));
+    }
+
+    /**
+     * Shows the roster loaded before quick find again, from memory, and merges in whatever
+     * changed meanwhile; does nothing if a reload has already replaced the quick find rows
+     */
+    private void endQuickFind() {
+        RosterBeforeQuickFind before = rosterBeforeQuickFind;
+        if (before == null) {
+            return;
+        }
+        rosterBeforeQuickFind = null;
+        tableModel.putBack(before.rows);
+        deltaWatermark = before.watermark;
+        lastLoadedName = before.lastLoadedName;
+        lastLoadedId = before.lastLoadedId;
+        hasMorePages = before.hasMorePages;
+        loadMoreButton.setEnabled(hasMorePages);
+        refreshStudents();
+    }
+
+    /**
+     * Builds a query from the filter controls and reloads the table
+     */
+    private void applyFilters() {
+        StudentQuery query = new StudentQuery();
+        query.setNamePrefix(namePrefixFilterField.getText().trim());
+        query.setEmailDomain(emailDomainFilterField.getText().trim());
+        query.setBranch(branchFilterField.getText().trim());
+        query.setSemester(semesterFilterField.getText().trim());
+
+        String hostel = (String) hostelFilterComboBox.getSelectedItem();
+        if (!"Any".equals(hostel)) {
+            query.setHostel("Yes".equals(hostel));
+        }
+
+        String role = (String) roleFilterComboBox.getSelectedItem();
+        if (!"Any".equals(role)) {
+            query.setRole(UserRole.valueOf(role));
+        }
+
+        query.setLimit(PAGE_SIZE);
+        currentQuery = query;
+        loadAllStudents();
+    }
+
+    /**
+     * Resets all filters and reloads the unfiltered roster
+     */
+    private void clearFilters() {
+        namePrefixFilterField.setText("");
+        emailDomainFilterField.setText("");
+        branchFilterField.setText("");
+        semesterFilterField.setText("");
+        hostelFilterComboBox.setSelectedIndex(0);
+        roleFilterComboBox.setSelectedIndex(0);
+        applyFilters();
+    }
+
+    /**
+     * Creates the admin menu bar with roster tools
+     */
+    private JMenuBar createAdminMenuBar() {
+        JMenuBar menuBar = new JMenuBar();
+        JMenu toolsMenu = new JMenu("Tools");
+
+        JMenuItem exportCsvItem = new JMenuItem("Export Roster as CSV...");
+        exportCsvItem.addActionListener(e -> exportRoster(StudentExporter.Format.CSV));
+        toolsMenu.add(exportCsvItem);
+
+        JMenuItem exportJsonItem = new JMenuItem("Export Roster as JSON...");
+        exportJsonItem.addActionListener(e -> exportRoster(StudentExporter.Format.JSON));
+        toolsMenu.add(exportJsonItem);
+
+        toolsMenu.addSeparator();
+        JMenuItem statisticsItem = new JMenuItem("Roster Statistics...");
+        statisticsItem.addActionListener(e -> new RosterStatisticsPanel(this, controller).setVisible(true));
+        toolsMenu.add(statisticsItem);
+
+        JMenuItem diagnosticsItem = new JMenuItem("Diagnostics...");
+        diagnosticsItem.addActionListener(e -> new DiagnosticsPanel(this).setVisible(true));
+        toolsMenu.add(diagnosticsItem);
+
+        menuBar.add(toolsMenu);
+        return menuBar;
+    }
+
     /**
      * Sets up student view with read-only profile
      */
@@ -331,16 +562,7 @@ public class DashboardFrame extends JFrame {
      * Sets up student table for admin view
      */
     private void setupStudentTable() {
-        String[] columnNames = {
-                "Student ID", "Name", "Email", "Branch", "Semester", "Hostel", "Phone", "Role"
-        };
-
-        tableModel = new DefaultTableModel(columnNames, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false; // Make table non-editable
-            }
-        };
+        tableModel = new StudentTableModel();
 
         studentTable = new JTable(tableModel);
         studentTable.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
@@ -390,21 +612,91 @@ public class DashboardFrame extends JFrame {
         addButton.addActionListener(e -> showStudentForm(null));
         editButton.addActionListener(e -> editSelectedStudent());
         deleteButton.addActionListener(e -> deleteSelectedStudent());
-        refreshButton.addActionListener(e -> loadAllStudents());
+        refreshButton.addActionListener(e -> refreshStudents());
+        loadMoreButton.addActionListener(e -> loadNextPage());
+        importButton.addActionListener(e -> importStudents());
         qrCodeButton.addActionListener(e -> generateQRCodeForSelectedStudent());
     }
 
     /**
-     * Loads all students for admin view
+     * Reloads the admin table starting from the first page
      */
     private void loadAllStudents() {
+        rosterBeforeQuickFind = null;
+        lastLoadedName = null;
+        lastLoadedId = null;
+        loadPage(true);
+    }
+
+    /**
+     * Shows the roster saved at the last logout straight from its memory-mapped file, so the
+     * table fills without waiting for the database, then refreshes it in the background
+     * with the rows changed since it was saved
+     * @return false if there is no usable snapshot
+     */
+    private boolean restoreRosterSnapshot() {
+        RosterSnapshot snapshot = RosterSnapshot.openForCurrentStore();
+        if (snapshot == null) {
+            return false;
+        }
+        tableModel.showSnapshot(snapshot);
+        lastLoadedName = snapshot.getLastLoadedName();
+        lastLoadedId = snapshot.getLastLoadedId();
+        hasMorePages = snapshot.hasMorePages();
+        loadMoreButton.setEnabled(hasMorePages);
+        deltaWatermark = snapshot.getWatermark();
+        adminStatusLabel.setText(String.format("Showing %d students saved %s, checking for changes...",
+                snapshot.size(), new Date(snapshot.getSavedAt())));
+        refreshStudents();
+        return true;
+    }
+
+    /**
+     * Saves the unfiltered roster for the next login; quick find and filtered views are not saved
+     */
+    private void saveRosterSnapshot() {
+        if (!isAdmin() || deltaWatermark == null || !currentQuery.isUnfiltered()) {
+            return;
+        }
+        CompactRoster roster = tableModel.getRoster();
+        if (roster == null) {
+            return; // still showing the saved snapshot unchanged
+        }
+        try {
+            RosterSnapshot.saveForCurrentStore(roster, deltaWatermark, hasMorePages, lastLoadedName, lastLoadedId);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ Failed to save roster snapshot: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Appends the next page after the last loaded row
+     */
+    private void loadNextPage() {
+        loadPage(false);
+    }
+
+    /**
+     * Fetches one keyset page for the admin view
+     * @param replace true to clear the table first (refresh), false to append
+     */
+    private void loadPage(boolean replace) {
         refreshButton.setEnabled(false);
         refreshButton.setText("Loading...");
+        loadMoreButton.setEnabled(false);
+
+        StudentQuery pageQuery = currentQuery.after(lastLoadedName, lastLoadedId);
+
+        new SwingWorker<List<StudentSummary>, Void>() {
+            private Timestamp watermark;
 
-        new SwingWorker<List<Student>, Void>() {
             @Override
-            protected List<Student> doInBackground() throws Exception {
-                return controller.getAllStudents().get();
+            protected List<StudentSummary> doInBackground() throws Exception {
+                if (replace) {
+                    // Taken before the read so later refreshes cannot miss a change made during it
+                    watermark = controller.getStudentsModifiedSince(null).get().getNextWatermark();
+                }
+                return controller.searchStudents(pageQuery).get();
             }
 
             @Override
@@ -413,8 +705,27 @@ public class DashboardFrame extends JFrame {
                 refreshButton.setText("Refresh");
 
                 try {
-                    List<Student> students = get();
+                    List<StudentSummary> students = get();
+                    if (replace) {
+                        tableModel.clear();
+                        deltaWatermark = watermark;
+                    }
                     updateTable(students);
+
+                    if (!students.isEmpty()) {
+                        StudentSummary last = students.get(students.size() - 1);
+                        lastLoadedName = last.getName();
+                        lastLoadedId = last.getStudentId();
+                    }
+                    hasMorePages = students.size() == PAGE_SIZE;
+                    loadMoreButton.setEnabled(hasMorePages);
+
+                    if (replace) {
+                        JOptionPane.showMessageDialog(DashboardFrame.this,
+                                "Loaded " + tableModel.getRowCount() + " students" +
+                                        (students.size() == PAGE_SIZE ? " (use Load More for the next page)" : ""),
+                                "Refresh Complete", JOptionPane.INFORMATION_MESSAGE);
+                    }
                 } catch (InterruptedException | ExecutionException e) {
                     JOptionPane.showMessageDialog(DashboardFrame.this,
                             "Failed to load students: " + e.getCause().getMessage(),
@@ -424,6 +735,132 @@ public class DashboardFrame extends JFrame {
         }.execute();
     }
 
+    /**
+     * Merges rows changed since the last load into the table
+     * Falls back to a full reload when there is no watermark yet (first load, quick find)
+     * or when the watermark is older than the retained tombstones.
+     */
+    private void refreshStudents() {
+        if (deltaWatermark == null) {
+            loadAllStudents();
+            return;
+        }
+
+        refreshButton.setEnabled(false);
+        refreshButton.setText("Loading...");
+        Timestamp since = deltaWatermark;
+        RosterSnapshot snapshot = tableModel.getSnapshot();
+
+        new SwingWorker<StudentDelta, Void>() {
+            private CompactRoster restored;
+            private boolean restoreFailed;
+
+            @Override
+            protected StudentDelta doInBackground() throws Exception {
+                // Decoding a saved roster takes time in proportion to its size, so it is done here, off the EDT
+                if (snapshot != null) {
+                    try {
+                        restored = snapshot.toRoster();
+                    } catch (RuntimeException e) {
+                        System.err.println("❌ Roster snapshot is damaged, reloading: " + e);
+                        restoreFailed = true;
+                        return null;
+                    }
+                }
+                return controller.getStudentsModifiedSince(since).get();
+            }
+
+            @Override
+            protected void done() {
+                refreshButton.setEnabled(true);
+                refreshButton.setText("Refresh");
+                if (restoreFailed) {
+                    loadAllStudents();
+                    return;
+                }
+                if (restored != null) {
+                    tableModel.restore(snapshot, restored);
+                }
+
+                try {
+                    StudentDelta delta = get();
+                    if (delta.isFullReloadRequired()) {
+                        loadAllStudents();
+                        return;
+                    }
+                    // A full reload or quick find may have replaced the table meanwhile
+                    if (deltaWatermark != since) {
+                        return;
+                    }
+                    mergeDelta(delta);
+                    deltaWatermark = delta.getNextWatermark();
+                    adminStatusLabel.setText(String.format("Refreshed: %d changed, %d deleted, %d students shown",
+                            delta.getChanged().size(), delta.getDeletedIds().size(), tableModel.getRowCount()));
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(DashboardFrame.this,
+                            "Failed to refresh students: " + e.getCause().getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Applies a delta in place: drops deleted and stale rows, then re-inserts changed rows
+     * that still match the filters and fall inside the pages loaded so far
+     */
+    private void mergeDelta(StudentDelta delta) {
+        for (String studentId : delta.getDeletedIds()) {
+            removeLoadedRow(studentId);
+        }
+        for (StudentSummary student : delta.getChanged()) {
+            removeLoadedRow(student.getStudentId());
+
+            boolean loaded = !hasMorePages || lastLoadedName == null
+                    || compareRows(student.getName(), student.getStudentId(), lastLoadedName, lastLoadedId) <= 0;
+            if (loaded && currentQuery.matches(student)) {
+                int row = findRow(student.getName(), student.getStudentId());
+                tableModel.insertRow(row, student);
+            }
+        }
+    }
+
+    /**
+     * Removes a row if it is in the table
+     */
+    private void removeLoadedRow(String studentId) {
+        int row = tableModel.indexOf(studentId);
+        if (row >= 0) {
+            tableModel.removeRow(row);
+        }
+    }
+
+    /**
+     * First row index whose (name, student_id) is not before the given key
+     */
+    private int findRow(String name, String studentId) {
+        int low = 0;
+        int high = tableModel.getRowCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compareRows(tableModel.getName(mid), tableModel.getStudentId(mid), name, studentId);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Approximates the ORDER BY name, student_id of the roster queries
+     */
+    private static int compareRows(String nameA, String idA, String nameB, String idB) {
+        int cmp = String.CASE_INSENSITIVE_ORDER.compare(nameA, nameB);
+        return cmp != 0 ? cmp : idA.compareTo(idB);
+    }
+
     /**
      * Loads single student profile for student view
      */
@@ -433,29 +870,10 @@ public class DashboardFrame extends JFrame {
     }
 
     /**
-     * Updates the table with student data (admin only)
+     * Appends student rows to the table (admin only)
      */
-    private void updateTable(List<Student> students) {
-        tableModel.setRowCount(0); // Clear existing data
-
-        for (Student student : students) {
-            Object[] rowData = {
-                    student.getStudentId(),
-                    student.getName(),
-                    student.getEmail(),
-                    student.getBranch(),
-                    student.getSemester(),
-                    student.isHostel() ? "Yes" : "No",
-                    student.getPhone(),
-                    student.getRole() != null ? student.getRole().toString() : "STUDENT"
-            };
-            tableModel.addRow(rowData);
-        }
-
-        // Show success message
-        JOptionPane.showMessageDialog(this,
-                "Loaded " + students.size() + " students",
-                "Refresh Complete", JOptionPane.INFORMATION_MESSAGE);
+    private void updateTable(List<StudentSummary> students) {
+        tableModel.appendRows(students);
     }
 
     /**
@@ -491,7 +909,7 @@ public class DashboardFrame extends JFrame {
             return;
         }
 
-        String studentId = (String) tableModel.getValueAt(selectedRow, 0);
+        String studentId = tableModel.getStudentId(selectedRow);
 
         new SwingWorker<Student, Void>() {
             @Override
@@ -534,8 +952,8 @@ public class DashboardFrame extends JFrame {
             return;
         }
 
-        String studentId = (String) tableModel.getValueAt(selectedRow, 0);
-        String studentName = (String) tableModel.getValueAt(selectedRow, 1);
+        String studentId = tableModel.getStudentId(selectedRow);
+        String studentName = tableModel.getName(selectedRow);
 
         int confirm = JOptionPane.showConfirmDialog(this,
                 "Are you sure you want to delete student: " + studentName + "?",
@@ -562,7 +980,7 @@ public class DashboardFrame extends JFrame {
                         JOptionPane.showMessageDialog(DashboardFrame.this,
                                 "Student deleted successfully",
                                 "Success", JOptionPane.INFORMATION_MESSAGE);
-                        loadAllStudents(); // Refresh the table
+                        refreshStudents(); // Merge the delete into the table
                     } catch (InterruptedException | ExecutionException e) {
                         JOptionPane.showMessageDialog(DashboardFrame.this,
                                 "Failed to delete student: " + e.getCause().getMessage(),
@@ -573,9 +991,121 @@ public class DashboardFrame extends JFrame {
         }
     }
 
+    /**
+     * Imports students from CSV/JSON files chosen by the admin
+     */
+    private void importStudents() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Import Students");
+        fileChooser.setMultiSelectionEnabled(true);
+        fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter(
+                "CSV or JSON files", "csv", "json"));
+
+        if (fileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        List<File> files = Arrays.asList(fileChooser.getSelectedFiles());
+        importButton.setEnabled(false);
+        importButton.setText("Importing...");
+
+        new SwingWorker<StudentBulkImporter.ImportResult, Integer>() {
+            @Override
+            protected StudentBulkImporter.ImportResult doInBackground() throws Exception {
+                return controller.importStudents(files,
+                        (processed, total) -> publish(total == 0 ? 100 : processed * 100 / total)).get();
+            }
+
+            @Override
+            protected void process(List<Integer> chunks) {
+                importButton.setText("Importing... " + chunks.get(chunks.size() - 1) + "%");
+            }
+
+            @Override
+            protected void done() {
+                importButton.setEnabled(true);
+                importButton.setText("Import Students");
+
+                try {
+                    StudentBulkImporter.ImportResult result = get();
+                    showImportReport(result);
+                    refreshStudents();
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(DashboardFrame.this,
+                            "Failed to import students: " + e.getCause().getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Shows import summary with the per-row error report
+     */
+    private void showImportReport(StudentBulkImporter.ImportResult result) {
+        String summary = String.format("Imported %d of %d rows in %d ms (%.0f rows/sec)",
+                result.getImportedRows(), result.getTotalRows(),
+                result.getElapsedMillis(), result.getRowsPerSecond());
+
+        if (result.getErrors().isEmpty()) {
+            JOptionPane.showMessageDialog(this, summary, "Import Complete", JOptionPane.INFORMATION_MESSAGE);
+            return;
+        }
+
+        JTextArea reportArea = new JTextArea(result.formatErrorReport(), 15, 60);
+        reportArea.setEditable(false);
+        JPanel reportPanel = new JPanel(new BorderLayout(5, 5));
+        reportPanel.add(new JLabel(summary + " - " + result.getErrors().size() + " rows rejected:"), BorderLayout.NORTH);
+        reportPanel.add(new JScrollPane(reportArea), BorderLayout.CENTER);
+
+        JOptionPane.showMessageDialog(this, reportPanel, "Import Complete", JOptionPane.WARNING_MESSAGE);
+    }
+
+    /**
+     * Exports the full roster to a file chosen by the admin
+     */
+    private void exportRoster(StudentExporter.Format format) {
+        String extension = format == StudentExporter.Format.JSON ? "json" : "csv";
+
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Export Roster");
+        fileChooser.setSelectedFile(new File("students." + extension));
+        fileChooser.setFileFilter(new javax.swing.filechooser.FileNameExtensionFilter(
+                extension.toUpperCase() + " files", extension));
+
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+
+        File selected = fileChooser.getSelectedFile();
+        File outputFile = selected.getName().toLowerCase().endsWith("." + extension)
+                ? selected : new File(selected.getAbsolutePath() + "." + extension);
+
+        new SwingWorker<Long, Void>() {
+            @Override
+            protected Long doInBackground() throws Exception {
+                return controller.exportStudents(outputFile, format).get();
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    long rows = get();
+                    JOptionPane.showMessageDialog(DashboardFrame.this,
+                            "Exported " + rows + " students to:\n" + outputFile.getAbsolutePath(),
+                            "Export Complete", JOptionPane.INFORMATION_MESSAGE);
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(DashboardFrame.this,
+                            "Failed to export students: " + e.getCause().getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
     public void refreshStudentTable() {
         if (isAdmin()) {
-            loadAllStudents();
+            refreshStudents();
         }
     }
 
@@ -588,6 +1118,8 @@ public class DashboardFrame extends JFrame {
                 "Confirm Logout", JOptionPane.YES_NO_OPTION);
 
         if (confirm == JOptionPane.YES_OPTION) {
+            saveRosterSnapshot();
+
             // Show logout message
             String userType = isAdmin() ? "Admin" : "Student";
             String userName = isAdmin() ? admin.getName() : student.getName();
@@ -621,8 +1153,8 @@ public class DashboardFrame extends JFrame {
             return;
         }
 
-        String studentId = (String) tableModel.getValueAt(selectedRow, 0);
-        String studentName = (String) tableModel.getValueAt(selectedRow, 1);
+        String studentId = tableModel.getStudentId(selectedRow);
+        String studentName = tableModel.getName(selectedRow);
         String hostelStatus = (String) tableModel.getValueAt(selectedRow, 5);
 
         if (!"Yes".equals(hostelStatus)) {
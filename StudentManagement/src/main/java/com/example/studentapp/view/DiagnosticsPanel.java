@@ -0,0 +1,175 @@
+package com.example.studentapp.view;
+
+import com.example.studentapp.database.DatabaseExecutors;
+import com.example.studentapp.database.LatencyHistogram;
+import com.example.studentapp.database.MetricsRegistry;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.io.File;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Live diagnostics dialog: per-operation latency, connection pool, executors and gauges
+ * Refreshes once a second while open and can save a Prometheus text snapshot.
+ */
+public class DiagnosticsPanel extends JDialog {
+    private static final long serialVersionUID = 1L;
+
+    private static final int REFRESH_MS = 1000;
+
+    private DefaultTableModel operationsModel, executorsModel, gaugesModel;
+    private JLabel poolLabel;
+    private Timer refreshTimer;
+
+    /**
+     * Constructor for the diagnostics dialog
+     * @param parentFrame parent dashboard frame
+     */
+    public DiagnosticsPanel(JFrame parentFrame) {
+        super(parentFrame, "Diagnostics", false);
+        initializeUI();
+        refresh();
+
+        refreshTimer = new Timer(REFRESH_MS, e -> refresh());
+        refreshTimer.start();
+    }
+
+    @Override
+    public void dispose() {
+        refreshTimer.stop();
+        super.dispose();
+    }
+
+    /**
+     * Initializes the dialog UI components
+     */
+    private void initializeUI() {
+        setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+        setSize(900, 600);
+        setLocationRelativeTo(getParent());
+
+        JPanel mainPanel = new JPanel(new BorderLayout(10, 10));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+
+        poolLabel = new JLabel(" ");
+        poolLabel.setFont(new Font("Arial", Font.BOLD, 12));
+        mainPanel.add(poolLabel, BorderLayout.NORTH);
+
+        operationsModel = readOnlyModel("Operation", "Count", "Errors", "Mean ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "Max ms");
+        executorsModel = readOnlyModel("Executor", "Threads", "Active", "Queued", "Completed", "Rejected", "Avg wait ms", "Max wait ms");
+        gaugesModel = readOnlyModel("Gauge", "Value");
+
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Operations", new JScrollPane(new JTable(operationsModel)));
+        tabs.addTab("Executors", new JScrollPane(new JTable(executorsModel)));
+        tabs.addTab("Gauges", new JScrollPane(new JTable(gaugesModel)));
+        mainPanel.add(tabs, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        JButton exportButton = new JButton("Export Prometheus...");
+        JButton closeButton = new JButton("Close");
+        exportButton.addActionListener(e -> exportMetrics());
+        closeButton.addActionListener(e -> dispose());
+        buttonPanel.add(exportButton);
+        buttonPanel.add(closeButton);
+        mainPanel.add(buttonPanel, BorderLayout.SOUTH);
+
+        add(mainPanel);
+    }
+
+    /**
+     * Re-reads every metric into the tables
+     */
+    private void refresh() {
+        HikariPoolMXBean pool = MetricsRegistry.poolStats();
+        LatencyHistogram.Snapshot acquire = MetricsRegistry.connectionAcquireSnapshot();
+        poolLabel.setText(pool == null ? "Pool: not started" : String.format(
+                "Pool: %d active, %d idle, %d total, %d waiting | acquire p50 %.2f ms, p99 %.2f ms | %d timeouts",
+                pool.getActiveConnections(), pool.getIdleConnections(), pool.getTotalConnections(),
+                pool.getThreadsAwaitingConnection(), acquire.getQuantileMillis(0.5), acquire.getQuantileMillis(0.99),
+                MetricsRegistry.getConnectionTimeouts()));
+
+        operationsModel.setRowCount(0);
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : MetricsRegistry.operationSnapshots().entrySet()) {
+            LatencyHistogram.Snapshot s = entry.getValue();
+            operationsModel.addRow(new Object[]{
+                    entry.getKey(), s.getCount(), s.getErrors(), millis(s.getMeanMillis()),
+                    millis(s.getQuantileMillis(0.5)), millis(s.getQuantileMillis(0.9)),
+                    millis(s.getQuantileMillis(0.99)), millis(s.getQuantileMillis(0.999)), millis(s.getMaxMillis())
+            });
+        }
+
+        executorsModel.setRowCount(0);
+        for (DatabaseExecutors.BoundedExecutor executor : DatabaseExecutors.all()) {
+            executorsModel.addRow(new Object[]{
+                    executor.getName(), executor.getThreads(), executor.getActiveCount(),
+                    executor.getQueueDepth() + "/" + executor.getQueueCapacity(), executor.getCompleted(),
+                    executor.getRejected(), millis(executor.getAverageWaitMillis()), millis(executor.getMaxWaitMillis())
+            });
+        }
+
+        gaugesModel.setRowCount(0);
+        for (Map.Entry<String, Double> entry : MetricsRegistry.gaugeValues().entrySet()) {
+            double value = entry.getValue();
+            gaugesModel.addRow(new Object[]{entry.getKey(),
+                    value == Math.rint(value) ? String.valueOf((long) value) : millis(value)});
+        }
+    }
+
+    /**
+     * Saves the current metrics in Prometheus text format
+     */
+    private void exportMetrics() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("Export Metrics");
+        fileChooser.setSelectedFile(new File("metrics.prom"));
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        File outputFile = fileChooser.getSelectedFile();
+
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws Exception {
+                try (Writer writer = Files.newBufferedWriter(outputFile.toPath(), StandardCharsets.UTF_8)) {
+                    MetricsRegistry.writePrometheus(writer);
+                }
+                return null;
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    get();
+                    JOptionPane.showMessageDialog(DiagnosticsPanel.this,
+                            "Metrics saved to:\n" + outputFile.getAbsolutePath(),
+                            "Export Complete", JOptionPane.INFORMATION_MESSAGE);
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(DiagnosticsPanel.this,
+                            "Failed to export metrics: " + e.getCause().getMessage(),
+                            "Error", JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
+    }
+
+    private static DefaultTableModel readOnlyModel(String... columns) {
+        return new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+    }
+
+    private static String millis(double value) {
+        return String.format("%.2f", value);
+    }
+}
@@ -3,6 +3,7 @@ package com.example.studentapp.view;
 import com.example.studentapp.controller.StudentController;
 import com.example.studentapp.model.Admin;
 import com.example.studentapp.model.Student;
+import com.example.studentapp.service.ApplicationStartup;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
@@ -19,13 +20,41 @@ public class LoginFrame extends JFrame {
     private JButton loginButton, signupButton;
     private JComboBox<String> userTypeComboBox;
     private JPanel mainPanel;
+    private JLabel statusLabel;
 
     public LoginFrame() {
-        this.controller = new StudentController();
         initializeUI();
+        waitForDatabase();
+    }
+
+    /**
+     * Paints immediately and enables login once the startup pipeline is done
+     */
+    private void waitForDatabase() {
+        loginButton.setEnabled(false);
+        signupButton.setEnabled(false);
+        statusLabel.setText("Connecting to database...");
+
+        ApplicationStartup.begin().whenComplete((ignored, error) -> SwingUtilities.invokeLater(() -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                statusLabel.setText("Database unavailable");
+                JOptionPane.showMessageDialog(this,
+                        "Database initialization failed: " + cause.getMessage(),
+                        "Database Error", JOptionPane.ERROR_MESSAGE);
+                return;
+            }
+            controller = new StudentController();
+            loginButton.setEnabled(true);
+            signupButton.setEnabled(true);
+            statusLabel.setText(" ");
+        }));
+    }
 
-        // Create default admin on startup
-        controller.createDefaultAdmin();
+    @Override
+    public void paint(Graphics g) {
+        super.paint(g);
+        ApplicationStartup.markFirstPaint();
     }
 
     private void initializeUI() {
@@ -118,6 +147,12 @@ public class LoginFrame extends JFrame {
 
         mainPanel.add(formPanel, BorderLayout.CENTER);
 
+        // Startup status
+        statusLabel = new JLabel(" ", JLabel.CENTER);
+        statusLabel.setFont(new Font("Arial", Font.ITALIC, 11));
+        statusLabel.setForeground(Color.GRAY);
+        mainPanel.add(statusLabel, BorderLayout.SOUTH);
+
         // Add action listeners
         setupEventListeners();
 
@@ -208,6 +243,10 @@ public class LoginFrame extends JFrame {
      * Attempts to authenticate user based on selected type
      */
     private void attemptLogin() {
+        if (controller == null) {
+            return; // Still starting up
+        }
+
         String userType = (String) userTypeComboBox.getSelectedItem();
         String username = usernameField.getText().trim();
         String password = new String(passwordField.getPassword());
@@ -0,0 +1,235 @@
+package com.example.studentapp.view;
+
+import com.example.studentapp.controller.StudentController;
+import com.example.studentapp.service.RosterAnalytics;
+import com.example.studentapp.service.RosterAnalytics.Dimension;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Statistics dialog showing roster counts grouped by branch, semester, hostel and role
+ * Queries run against the in-memory columnar snapshot, or as SQL GROUP BY for comparison
+ */
+public class RosterStatisticsPanel extends JDialog {
+    private static final long serialVersionUID = 1L;
+
+    private StudentController controller;
+    private JCheckBox branchCheckBox, semesterCheckBox, hostelCheckBox, roleCheckBox;
+    private JComboBox<String> hostelFilterComboBox;
+    private JTextField branchFilterField;
+    private JButton reloadButton, runButton, runSqlButton;
+    private JLabel statusLabel;
+    private DefaultTableModel resultModel;
+
+    /**
+     * Constructor for the statistics dialog
+     * @param parentFrame parent dashboard frame
+     * @param controller student controller
+     */
+    public RosterStatisticsPanel(JFrame parentFrame, StudentController controller) {
+        super(parentFrame, "Roster Statistics", false);
+        this.controller = controller;
+        initializeUI();
+
+        if (controller.isRosterStatisticsLoaded()) {
+            updateStatus("Snapshot: " + controller.getRosterStatistics().getRowCount() + " rows");
+        } else {
+            reloadSnapshot();
+        }
+    }
+
+    /**
+     * Initializes the dialog UI components
+     */
+    private void initializeUI() {
+        setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
+        setSize(700, 500);
+        setLocationRelativeTo(getParent());
+
+        JPanel mainPanel = new JPanel(new BorderLayout(10, 10));
+        mainPanel.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+
+        // Query controls
+        JPanel controlsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 5));
+        branchCheckBox = new JCheckBox("Branch", true);
+        semesterCheckBox = new JCheckBox("Semester", true);
+        hostelCheckBox = new JCheckBox("Hostel");
+        roleCheckBox = new JCheckBox("Role");
+        branchFilterField = new JTextField(8);
+        hostelFilterComboBox = new JComboBox<>(new String[]{"Any", "Yes", "No"});
+
+        controlsPanel.add(new JLabel("Group by:"));
+        controlsPanel.add(branchCheckBox);
+        controlsPanel.add(semesterCheckBox);
+        controlsPanel.add(hostelCheckBox);
+        controlsPanel.add(roleCheckBox);
+        controlsPanel.add(new JLabel("Branch ="));
+        controlsPanel.add(branchFilterField);
+        controlsPanel.add(new JLabel("Hostel ="));
+        controlsPanel.add(hostelFilterComboBox);
+        mainPanel.add(controlsPanel, BorderLayout.NORTH);
+
+        // Results table
+        resultModel = new DefaultTableModel(0, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+        JTable resultTable = new JTable(resultModel);
+        resultTable.getTableHeader().setReorderingAllowed(false);
+        mainPanel.add(new JScrollPane(resultTable), BorderLayout.CENTER);
+
+        // Buttons and status
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        statusLabel = new JLabel(" ");
+        statusLabel.setFont(new Font("Arial", Font.ITALIC, 12));
+        bottomPanel.add(statusLabel, BorderLayout.CENTER);
+
+        JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        reloadButton = new JButton("Reload Snapshot");
+        runButton = new JButton("Run (In-Memory)");
+        runSqlButton = new JButton("Run (SQL)");
+        reloadButton.addActionListener(e -> reloadSnapshot());
+        runButton.addActionListener(e -> runInMemory());
+        runSqlButton.addActionListener(e -> runInDatabase());
+        buttonPanel.add(reloadButton);
+        buttonPanel.add(runButton);
+        buttonPanel.add(runSqlButton);
+        bottomPanel.add(buttonPanel, BorderLayout.EAST);
+
+        mainPanel.add(bottomPanel, BorderLayout.SOUTH);
+        add(mainPanel);
+    }
+
+    /**
+     * Loads a fresh columnar snapshot of the roster
+     */
+    private void reloadSnapshot() {
+        reloadButton.setEnabled(false);
+        runButton.setEnabled(false);
+        updateStatus("Loading roster snapshot...");
+
+        new SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() throws Exception {
+                return controller.loadRosterStatistics().get();
+            }
+
+            @Override
+            protected void done() {
+                reloadButton.setEnabled(true);
+                runButton.setEnabled(true);
+
+                try {
+                    int rows = get();
+                    updateStatus("Snapshot: " + rows + " rows loaded in "
+                            + controller.getRosterStatistics().getLoadMillis() + " ms");
+                    runInMemory();
+                } catch (InterruptedException | ExecutionException e) {
+                    updateStatus("Failed to load snapshot: " + e.getCause().getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    /**
+     * Runs the selected group-by against the in-memory columns
+     */
+    private void runInMemory() {
+        if (!controller.isRosterStatisticsLoaded()) {
+            return;
+        }
+        try {
+            RosterAnalytics.QueryResult result = controller.getRosterStatistics()
+                    .countInMemory(selectedGroupBy(), selectedFilters());
+            showResult(result, "in-memory");
+        } catch (IllegalArgumentException e) {
+            updateStatus(e.getMessage());
+        }
+    }
+
+    /**
+     * Runs the selected group-by as SQL GROUP BY
+     */
+    private void runInDatabase() {
+        runSqlButton.setEnabled(false);
+        List<Dimension> groupBy = selectedGroupBy();
+        Map<Dimension, String> filters = selectedFilters();
+
+        new SwingWorker<RosterAnalytics.QueryResult, Void>() {
+            @Override
+            protected RosterAnalytics.QueryResult doInBackground() throws Exception {
+                return controller.getRosterStatistics().countInDatabase(groupBy, filters).get();
+            }
+
+            @Override
+            protected void done() {
+                runSqlButton.setEnabled(true);
+                try {
+                    showResult(get(), "SQL GROUP BY");
+                } catch (InterruptedException | ExecutionException e) {
+                    updateStatus("Query failed: " + e.getCause().getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    private List<Dimension> selectedGroupBy() {
+        List<Dimension> groupBy = new ArrayList<>();
+        if (branchCheckBox.isSelected()) groupBy.add(Dimension.BRANCH);
+        if (semesterCheckBox.isSelected()) groupBy.add(Dimension.SEMESTER);
+        if (hostelCheckBox.isSelected()) groupBy.add(Dimension.HOSTEL);
+        if (roleCheckBox.isSelected()) groupBy.add(Dimension.ROLE);
+        return groupBy;
+    }
+
+    private Map<Dimension, String> selectedFilters() {
+        Map<Dimension, String> filters = new EnumMap<>(Dimension.class);
+        String branch = branchFilterField.getText().trim();
+        if (!branch.isEmpty()) {
+            filters.put(Dimension.BRANCH, branch);
+        }
+        String hostel = (String) hostelFilterComboBox.getSelectedItem();
+        if (!"Any".equals(hostel)) {
+            filters.put(Dimension.HOSTEL, hostel);
+        }
+        return filters;
+    }
+
+    /**
+     * Fills the results table and reports timing
+     */
+    private void showResult(RosterAnalytics.QueryResult result, String engine) {
+        List<String> columns = new ArrayList<>();
+        for (Dimension dimension : result.getGroupBy()) {
+            columns.add(dimension.name().charAt(0) + dimension.name().substring(1).toLowerCase());
+        }
+        columns.add("Students");
+        resultModel.setColumnIdentifiers(columns.toArray());
+        resultModel.setRowCount(0);
+
+        for (RosterAnalytics.GroupCount group : result.getGroups()) {
+            Object[] row = new Object[columns.size()];
+            for (int i = 0; i < group.getKeys().size(); i++) {
+                row[i] = group.getKeys().get(i);
+            }
+            row[columns.size() - 1] = group.getCount();
+            resultModel.addRow(row);
+        }
+
+        updateStatus(String.format("%d groups, %d students - %s in %.2f ms",
+                result.getGroups().size(), result.getTotal(), engine, result.getElapsedMillis()));
+    }
+
+    private void updateStatus(String text) {
+        statusLabel.setText(text);
+    }
+}
@@ -2,10 +2,14 @@ package com.example.studentapp.view;
 
 import com.example.studentapp.controller.StudentController;
 import com.example.studentapp.model.Student;
+import com.example.studentapp.service.DuplicateEmailException;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.event.FocusAdapter;
+import java.awt.event.FocusEvent;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import com.example.studentapp.model.UserRole;
 /**
@@ -14,9 +18,11 @@ import com.example.studentapp.model.UserRole;
  */
 public class SignupFrame extends JDialog {
     private StudentController controller;
-    private JTextField nameField, emailField, branchField, semesterField, phoneField;
+    private JTextField nameField, emailField, phoneField;
+    private JComboBox<String> branchField, semesterField;
     private JPasswordField passwordField, confirmPasswordField;
     private JCheckBox hostelCheckBox;
+    private JLabel emailStatusLabel;
     private JButton signupButton, cancelButton;
     private LoginFrame loginFrame;
 
@@ -29,6 +35,7 @@ public class SignupFrame extends JDialog {
         this.controller = new StudentController();
         this.loginFrame = loginFrame;
         initializeUI();
+        loadChoices();
     }
 
     /**
@@ -36,7 +43,7 @@ public class SignupFrame extends JDialog {
      */
     private void initializeUI() {
         setDefaultCloseOperation(JDialog.DISPOSE_ON_CLOSE);
-        setSize(450, 500);
+        setSize(450, 530);
         setLocationRelativeTo(loginFrame);
         setResizable(false);
 
@@ -78,8 +85,12 @@ public class SignupFrame extends JDialog {
 
         addFormRow(formPanel, gbc, "Phone Number:*", phoneField, 7);
 
-        // Required fields note
+        // Email availability, filled in when the email field loses focus
         gbc.gridx = 0; gbc.gridy = 8; gbc.gridwidth = 2;
+        formPanel.add(emailStatusLabel, gbc);
+
+        // Required fields note
+        gbc.gridx = 0; gbc.gridy = 9; gbc.gridwidth = 2;
         JLabel requiredLabel = new JLabel("* Required fields");
         requiredLabel.setForeground(Color.RED);
         requiredLabel.setFont(new Font("Arial", Font.ITALIC, 12));
@@ -119,10 +130,38 @@ public class SignupFrame extends JDialog {
         emailField = new JTextField(20);
         passwordField = new JPasswordField(20);
         confirmPasswordField = new JPasswordField(20);
-        branchField = new JTextField(20);
-        semesterField = new JTextField(20);
+        branchField = new JComboBox<>();
+        semesterField = new JComboBox<>();
         phoneField = new JTextField(20);
         hostelCheckBox = new JCheckBox();
+        emailStatusLabel = new JLabel(" ");
+        emailStatusLabel.setFont(new Font("Arial", Font.PLAIN, 12));
+    }
+
+    /**
+     * Fills the branch and semester dropdowns from the reference tables
+     */
+    private void loadChoices() {
+        new SwingWorker<List<List<String>>, Void>() {
+            @Override
+            protected List<List<String>> doInBackground() throws Exception {
+                return List.of(controller.getBranches().get(), controller.getSemesters().get());
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    List<List<String>> choices = get();
+                    branchField.setModel(new DefaultComboBoxModel<>(choices.get(0).toArray(new String[0])));
+                    semesterField.setModel(new DefaultComboBoxModel<>(choices.get(1).toArray(new String[0])));
+                } catch (InterruptedException | ExecutionException e) {
+                    JOptionPane.showMessageDialog(SignupFrame.this,
+                            "Failed to load branches and semesters: " + e.getCause().getMessage(),
+                            "Registration Error",
+                            JOptionPane.ERROR_MESSAGE);
+                }
+            }
+        }.execute();
     }
 
     /**
@@ -171,15 +210,54 @@ public class SignupFrame extends JDialog {
             }
         };
 
+        emailField.addFocusListener(new FocusAdapter() {
+            @Override
+            public void focusLost(FocusEvent e) {
+                checkEmailAvailable();
+            }
+        });
+
         nameField.addActionListener(enterKeyListener);
         emailField.addActionListener(enterKeyListener);
         passwordField.addActionListener(enterKeyListener);
         confirmPasswordField.addActionListener(enterKeyListener);
-        branchField.addActionListener(enterKeyListener);
-        semesterField.addActionListener(enterKeyListener);
         phoneField.addActionListener(enterKeyListener);
     }
 
+    /**
+     * Tells the user early whether the typed email is taken
+     * Most emails are new, and the service answers those from its email filter without a
+     * query. Only a hint: registration still relies on the UNIQUE email constraint.
+     */
+    private void checkEmailAvailable() {
+        String email = emailField.getText().trim();
+        if (!isValidEmail(email)) {
+            emailStatusLabel.setText(" ");
+            return;
+        }
+
+        new SwingWorker<Boolean, Void>() {
+            @Override
+            protected Boolean doInBackground() throws Exception {
+                return controller.emailExists(email, null).get();
+            }
+
+            @Override
+            protected void done() {
+                if (!email.equals(emailField.getText().trim())) {
+                    return; // Edited meanwhile; the next focus change checks again
+                }
+                try {
+                    boolean taken = get();
+                    emailStatusLabel.setForeground(taken ? Color.RED : new Color(40, 167, 69));
+                    emailStatusLabel.setText(taken ? "Email already registered: " + email : "Email is available");
+                } catch (InterruptedException | ExecutionException e) {
+                    emailStatusLabel.setText(" "); // The check is optional; registration reports duplicates anyway
+                }
+            }
+        }.execute();
+    }
+
     /**
      * Validates form and registers new student
      */
@@ -189,8 +267,8 @@ public class SignupFrame extends JDialog {
         String email = emailField.getText().trim();
         String password = new String(passwordField.getPassword());
         String confirmPassword = new String(confirmPasswordField.getPassword());
-        String branch = branchField.getText().trim();
-        String semester = semesterField.getText().trim();
+        String branch = selected(branchField);
+        String semester = selected(semesterField);
         boolean hostel = hostelCheckBox.isSelected();
         String phone = phoneField.getText().trim();
 
@@ -221,13 +299,7 @@ public class SignupFrame extends JDialog {
         new SwingWorker<String, Void>() {
             @Override
             protected String doInBackground() throws Exception {
-                // Check if email already exists
-                boolean emailExists = controller.emailExists(email, "").get();
-                if (emailExists) {
-                    throw new Exception("Email already registered: " + email);
-                }
-
-                // Register new student
+                // Register new student; the UNIQUE email constraint rejects duplicates
                 return controller.addStudent(student).get();
             }
 
@@ -247,6 +319,14 @@ public class SignupFrame extends JDialog {
                     dispose(); // Close signup window
 
                 } catch (InterruptedException | ExecutionException e) {
+                    if (DuplicateEmailException.findIn(e) != null) {
+                        JOptionPane.showMessageDialog(SignupFrame.this,
+                                "Email already registered: " + email,
+                                "Registration Error",
+                                JOptionPane.ERROR_MESSAGE);
+                        emailField.requestFocus();
+                        return;
+                    }
                     String errorMessage = e.getCause().getMessage();
                     JOptionPane.showMessageDialog(SignupFrame.this,
                             "Registration failed: " + errorMessage,
@@ -320,24 +400,13 @@ public class SignupFrame extends JDialog {
             phoneField.requestFocus();
             return false;
         }
-
-        // Semester validation
-        if (!isValidSemester(semester)) {
-            JOptionPane.showMessageDialog(this,
-                    "Please enter a valid semester (1-8).",
-                    "Validation Error",
-                    JOptionPane.WARNING_MESSAGE);
-            semesterField.requestFocus();
-            return false;
-        }
-
         return true;
     }
 
     /**
      * Validates email format
      */
-    private boolean isValidEmail(String email) {
+    static boolean isValidEmail(String email) {
         return email.matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
     }
 
@@ -349,14 +418,10 @@ public class SignupFrame extends JDialog {
     }
 
     /**
-     * Validates semester (1-8)
+     * Selected dropdown value, or "" if none
      */
-    private boolean isValidSemester(String semester) {
-        try {
-            int sem = Integer.parseInt(semester);
-            return sem >= 1 && sem <= 8;
-        } catch (NumberFormatException e) {
-            return false;
-        }
+    private static String selected(JComboBox<String> comboBox) {
+        Object item = comboBox.getSelectedItem();
+        return item != null ? item.toString() : "";
     }
 }
\ No newline at end of file
@@ -2,10 +2,12 @@ package com.example.studentapp.view;
 
 import com.example.studentapp.controller.StudentController;
 import com.example.studentapp.model.Student;
+import com.example.studentapp.service.DuplicateEmailException;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import com.example.studentapp.model.UserRole;
 
@@ -22,7 +24,8 @@ public class StudentFormPanel extends JDialog {
     private DashboardFrame parentFrame;
     private Student existingStudent;
 
-    private JTextField nameField, emailField, passwordField, branchField, semesterField, phoneField;
+    private JTextField nameField, emailField, passwordField, phoneField;
+    private JComboBox<String> branchField, semesterField;
     private JCheckBox hostelCheckBox;
     private JButton saveButton, cancelButton;
 
@@ -42,6 +45,7 @@ public class StudentFormPanel extends JDialog {
         if (student != null) {
             populateForm(student);
         }
+        loadChoices();
     }
 
     /**
@@ -114,12 +118,52 @@ public class StudentFormPanel extends JDialog {
         nameField = new JTextField(20);
         emailField = new JTextField(20);
         passwordField = new JPasswordField(20);
-        branchField = new JTextField(20);
-        semesterField = new JTextField(20);
+        // Editable: typing a new branch or semester adds it to the reference table on save
+        branchField = new JComboBox<>();
+        branchField.setEditable(true);
+        semesterField = new JComboBox<>();
+        semesterField.setEditable(true);
         phoneField = new JTextField(20);
         hostelCheckBox = new JCheckBox();
     }
 
+    /**
+     * Fills the branch and semester dropdowns, keeping whatever is already entered
+     */
+    private void loadChoices() {
+        new SwingWorker<List<List<String>>, Void>() {
+            @Override
+            protected List<List<String>> doInBackground() throws Exception {
+                return List.of(controller.getBranches().get(), controller.getSemesters().get());
+            }
+
+            @Override
+            protected void done() {
+                try {
+                    List<List<String>> choices = get();
+                    setChoices(branchField, choices.get(0));
+                    setChoices(semesterField, choices.get(1));
+                } catch (InterruptedException | ExecutionException e) {
+                    System.err.println("❌ Failed to load branches and semesters: " + e.getCause().getMessage());
+                }
+            }
+        }.execute();
+    }
+
+    private static void setChoices(JComboBox<String> comboBox, List<String> choices) {
+        String current = selected(comboBox);
+        comboBox.setModel(new DefaultComboBoxModel<>(choices.toArray(new String[0])));
+        comboBox.setSelectedItem(current.isEmpty() ? null : current);
+    }
+
+    /**
+     * Entered dropdown value, including text typed but not yet committed
+     */
+    private static String selected(JComboBox<String> comboBox) {
+        Object item = comboBox.getEditor().getItem();
+        return item != null ? item.toString().trim() : "";
+    }
+
     /**
      * Adds a form row with label and field
      * @param panel parent panel
@@ -161,9 +205,11 @@ public class StudentFormPanel extends JDialog {
     private void populateForm(Student student) {
         nameField.setText(student.getName());
         emailField.setText(student.getEmail());
-        passwordField.setText(student.getPassword());
-        branchField.setText(student.getBranch());
-        semesterField.setText(student.getSemester());
+        // Stored passwords are hashed; leaving the field blank keeps the current one
+        passwordField.setText("");
+        passwordField.setToolTipText("Leave blank to keep the current password");
+        branchField.setSelectedItem(student.getBranch());
+        semesterField.setSelectedItem(student.getSemester());
         hostelCheckBox.setSelected(student.isHostel());
         phoneField.setText(student.getPhone());
     }
@@ -176,12 +222,12 @@ public class StudentFormPanel extends JDialog {
         String name = nameField.getText().trim();
         String email = emailField.getText().trim();
         String password = new String(((JPasswordField) passwordField).getPassword()).trim();
-        String branch = branchField.getText().trim();
-        String semester = semesterField.getText().trim();
+        String branch = selected(branchField);
+        String semester = selected(semesterField);
         boolean hostel = hostelCheckBox.isSelected();
         String phone = phoneField.getText().trim();
         // Validation
-        if (name.isEmpty() || email.isEmpty() || password.isEmpty() ||
+        if (name.isEmpty() || email.isEmpty() || (password.isEmpty() && existingStudent == null) ||
                 branch.isEmpty() || semester.isEmpty() || phone.isEmpty()) {
             JOptionPane.showMessageDialog(this,
                     "Please fill in all fields",
@@ -215,16 +261,7 @@ public class StudentFormPanel extends JDialog {
         new SwingWorker<Boolean, Void>() {
             @Override
             protected Boolean doInBackground() throws Exception {
-                // Check if email already exists (for new students or when email changed)
-                if (existingStudent == null || !existingStudent.getEmail().equals(email)) {
-                    boolean emailExists = controller.emailExists(email,
-                            existingStudent != null ? existingStudent.getStudentId() : "").get();
-                    if (emailExists) {
-                        throw new Exception("Email already exists: " + email);
-                    }
-                }
-
-                // Save student
+                // Save student; the UNIQUE email constraint rejects duplicates
                 if (existingStudent == null) {
                     controller.addStudent(student).get();
                 } else {
@@ -248,6 +285,14 @@ public class StudentFormPanel extends JDialog {
                     parentFrame.refreshStudentTable();
                     dispose();
                 } catch (InterruptedException | ExecutionException e) {
+                    DuplicateEmailException duplicate = DuplicateEmailException.findIn(e);
+                    if (duplicate != null) {
+                        JOptionPane.showMessageDialog(StudentFormPanel.this,
+                                duplicate.getMessage(),
+                                "Validation Error", JOptionPane.WARNING_MESSAGE);
+                        emailField.requestFocus();
+                        return;
+                    }
                     JOptionPane.showMessageDialog(StudentFormPanel.this,
                             "Failed to save student: " + e.getCause().getMessage(),
                             "Error", JOptionPane.ERROR_MESSAGE);
@@ -284,7 +329,7 @@ public class StudentFormPanel extends JDialog {
      * @param email email to validate
      * @return true if valid email format
      */
-    private boolean isValidEmail(String email) {
+    static boolean isValidEmail(String email) {
         return email.matches("^[A-Za-z0-9+_.-]+@(.+)$");
     }
 }
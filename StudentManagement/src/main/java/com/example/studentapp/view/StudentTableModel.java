@@ -0,0 +1,203 @@
+package com.example.studentapp.view;
+
+import com.example.studentapp.model.StudentSummary;
+import com.example.studentapp.service.CompactRoster;
+import com.example.studentapp.service.RosterRows;
+import com.example.studentapp.service.RosterSnapshot;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.List;
+
+/**
+ * Read-only table model for the admin roster
+ * Rows live in a CompactRoster and cells are decoded as the table paints them, so a
+ * large roster costs a fraction of the heap of Object[] rows. Pages are appended with
+ * a single rows-inserted event instead of one event per row.
+ * At login the model can show a RosterSnapshot straight from its mapped file; it takes
+ * updates once the snapshot has been decoded into a roster.
+ */
+class StudentTableModel extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+
+    private static final String[] COLUMN_NAMES = {
+            "Student ID", "Name", "Email", "Branch", "Semester", "Hostel", "Phone", "Role"
+    };
+
+    private CompactRoster roster = new CompactRoster();
+    private RosterSnapshot snapshot;
+
+    /**
+     * Rows currently shown: the snapshot until it is restored, then the roster
+     */
+    private RosterRows shown() {
+        return snapshot != null ? snapshot : roster;
+    }
+
+    /**
+     * Rows that can take updates, decoding the snapshot here if the background restore has not finished
+     */
+    private CompactRoster editable() {
+        if (snapshot != null) {
+            roster = snapshot.toRoster();
+            snapshot = null;
+        }
+        return roster;
+    }
+
+    @Override
+    public int getRowCount() {
+        return shown().size();
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMN_NAMES.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMN_NAMES[column];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return String.class;
+    }
+
+    @Override
+    public boolean isCellEditable(int row, int column) {
+        return false; // Make table non-editable
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        RosterRows rows = shown();
+        switch (column) {
+            case 0: return rows.getStudentId(row);
+            case 1: return rows.getName(row);
+            case 2: return rows.getEmail(row);
+            case 3: return rows.getBranch(row);
+            case 4: return rows.getSemester(row);
+            case 5: return rows.isHostel(row) ? "Yes" : "No";
+            case 6: return rows.getPhone(row);
+            case 7: return rows.getRole(row).toString();
+            default: throw new IndexOutOfBoundsException("Column " + column);
+        }
+    }
+
+    /**
+     * Appends student rows and notifies listeners once
+     */
+    void appendRows(List<StudentSummary> students) {
+        if (students.isEmpty()) {
+            return;
+        }
+        CompactRoster rows = editable();
+        int first = rows.size();
+        rows.addAll(students);
+        fireTableRowsInserted(first, rows.size() - 1);
+    }
+
+    void insertRow(int row, StudentSummary student) {
+        editable().insert(row, student);
+        fireTableRowsInserted(row, row);
+    }
+
+    void removeRow(int row) {
+        editable().remove(row);
+        fireTableRowsDeleted(row, row);
+    }
+
+    void clear() {
+        snapshot = null;
+        roster.clear();
+        fireTableDataChanged();
+    }
+
+    /**
+     * Row holding the given student, or -1
+     */
+    int indexOf(String studentId) {
+        return editable().indexOf(studentId);
+    }
+
+    String getStudentId(int row) {
+        return shown().getStudentId(row);
+    }
+
+    String getName(int row) {
+        return shown().getName(row);
+    }
+
+    /**
+     * Rows taken out of the table by setAside, to be shown again with putBack
+     */
+    static final class SetAside {
+        private final CompactRoster roster;
+        private final RosterSnapshot snapshot;
+
+        private SetAside(CompactRoster roster, RosterSnapshot snapshot) {
+            this.roster = roster;
+            this.snapshot = snapshot;
+        }
+    }
+
+    /**
+     * Takes the rows out of the table and leaves it empty, so other rows (quick find
+     * matches) can be shown meanwhile without losing the loaded roster
+     */
+    SetAside setAside() {
+        SetAside rows = new SetAside(roster, snapshot);
+        roster = new CompactRoster();
+        snapshot = null;
+        fireTableDataChanged();
+        return rows;
+    }
+
+    /**
+     * Shows rows taken out by setAside again, replacing the current ones
+     */
+    void putBack(SetAside rows) {
+        roster = rows.roster;
+        snapshot = rows.snapshot;
+        fireTableDataChanged();
+    }
+
+    /**
+     * Shows a saved roster in place of the current rows
+     */
+    void showSnapshot(RosterSnapshot snapshot) {
+        this.roster = new CompactRoster();
+        this.snapshot = snapshot;
+        fireTableDataChanged();
+    }
+
+    /**
+     * The snapshot being shown, or null once it has been restored or replaced
+     */
+    RosterSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Swaps in rows decoded from the snapshot being shown; they are the same rows, so
+     * the selection survives. Does nothing if the table has moved on from that snapshot.
+     */
+    void restore(RosterSnapshot from, CompactRoster restored) {
+        if (snapshot != from || from == null) {
+            return;
+        }
+        roster = restored;
+        snapshot = null;
+        if (roster.size() > 0) {
+            fireTableRowsUpdated(0, roster.size() - 1);
+        }
+    }
+
+    /**
+     * The rows shown, once they can be saved; null while a snapshot is still being shown
+     */
+    CompactRoster getRoster() {
+        return snapshot == null ? roster : null;
+    }
+}